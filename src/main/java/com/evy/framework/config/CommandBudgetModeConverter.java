@@ -0,0 +1,21 @@
+package com.evy.framework.config;
+
+import com.evy.framework.constants.CommandBudgetMode;
+import org.aeonbits.owner.Converter;
+
+import java.lang.reflect.Method;
+
+/**
+ * Converts a string to a {@link CommandBudgetMode} enum.
+ * <p>
+ * This class is used by the configuration library to convert
+ * string values from the configuration file to the appropriate
+ * {@link CommandBudgetMode} enum.
+ * </p>
+ */
+public final class CommandBudgetModeConverter implements Converter<CommandBudgetMode> {
+    @Override
+    public CommandBudgetMode convert(Method method, String commandBudgetMode) {
+        return CommandBudgetMode.valueOf(commandBudgetMode.toUpperCase());
+    }
+}
@@ -1,6 +1,8 @@
 package com.evy.framework.config;
 
 import com.evy.framework.constants.BrowserType;
+import com.evy.framework.constants.CommandBudgetMode;
+import com.evy.framework.constants.LaunchProfile;
 import org.aeonbits.owner.Config;
 
 /**
@@ -8,10 +10,13 @@ import org.aeonbits.owner.Config;
  * <p>
  * This interface defines the configuration properties and
  * their default values used by the framework. It loads properties
- * from the `config.properties` file.
+ * from the `config.properties` file. A JVM system property or an environment
+ * variable with the same name as a key overrides the file, so per-environment
+ * values such as test account credentials stay out of the shared file.
  * </p>
  */
-@Config.Sources("file:${user.dir}/src/main/resources/config.properties")
+@Config.LoadPolicy(Config.LoadType.MERGE)
+@Config.Sources({"system:properties", "system:env", "file:${user.dir}/src/main/resources/config.properties"})
 public interface FrameworkConfig extends Config {
 
     /**
@@ -48,4 +53,413 @@ public interface FrameworkConfig extends Config {
      */
     @Key("pageLoadTime")
     int pageLoadTime();
+
+    /**
+     * Checks if WebDriver sessions are pooled and reused across test methods.
+     *
+     * @return true if session pooling is enabled
+     */
+    @Key("sessionPoolEnabled")
+    @DefaultValue("true")
+    boolean sessionPoolEnabled();
+
+    /**
+     * Gets the maximum number of live browser sessions held by the pool.
+     *
+     * @return the session pool size
+     */
+    @Key("sessionPoolSize")
+    @DefaultValue("8")
+    int sessionPoolSize();
+
+    /**
+     * Gets the number of leases after which a pooled session is quit and replaced.
+     *
+     * @return the maximum uses per session
+     */
+    @Key("sessionMaxUses")
+    @DefaultValue("20")
+    int sessionMaxUses();
+
+    /**
+     * Gets the time in seconds a test waits for a free session before failing.
+     *
+     * @return the session lease timeout
+     */
+    @Key("sessionLeaseTimeout")
+    @DefaultValue("120")
+    int sessionLeaseTimeout();
+
+    /**
+     * Gets the number of sessions started in the background when the suite begins.
+     *
+     * @return the number of warm-up sessions
+     */
+    @Key("warmupSessions")
+    @DefaultValue("4")
+    int warmupSessions();
+
+    /**
+     * Gets the number of idle sessions kept ready while tests run.
+     *
+     * @return the number of ready sessions
+     */
+    @Key("warmupReadySessions")
+    @DefaultValue("1")
+    int warmupReadySessions();
+
+    /**
+     * Gets the directory holding the resolved driver executable index.
+     * Relative paths are resolved against the user's home directory.
+     *
+     * @return the driver cache directory
+     */
+    @Key("driverCacheDir")
+    @DefaultValue(".cache/evy-framework")
+    String driverCacheDir();
+
+    /**
+     * Checks if sessions share one long-running driver service per browser type
+     * instead of starting a driver process per session.
+     *
+     * @return true if the driver service is shared
+     */
+    @Key("sharedDriverService")
+    @DefaultValue("true")
+    boolean sharedDriverService();
+
+    /**
+     * Gets the launch profile browsers are started with.
+     *
+     * @return the {@link LaunchProfile} value
+     */
+    @ConverterClass(LaunchProfileConverter.class)
+    @Key("launchProfile")
+    @DefaultValue("CI")
+    LaunchProfile launchProfile();
+
+    /**
+     * Checks if Chrome and Edge sessions start from a clone of a template profile with a warm HTTP cache.
+     *
+     * @return true if profile templates are enabled
+     */
+    @Key("profileTemplateEnabled")
+    @DefaultValue("true")
+    boolean profileTemplateEnabled();
+
+    /**
+     * Gets the explicit wait timeout in seconds used by page objects.
+     *
+     * @return the explicit wait timeout
+     */
+    @Key("explicitWaitTime")
+    @DefaultValue("10")
+    int explicitWaitTime();
+
+    /**
+     * Gets the first polling interval of explicit waits in milliseconds. Later polls back off exponentially.
+     *
+     * @return the initial polling interval
+     */
+    @Key("waitInitialPollMillis")
+    @DefaultValue("5")
+    int waitInitialPollMillis();
+
+    /**
+     * Gets the longest polling interval of explicit waits in milliseconds.
+     *
+     * @return the maximum polling interval
+     */
+    @Key("waitMaxPollMillis")
+    @DefaultValue("250")
+    int waitMaxPollMillis();
+
+    /**
+     * Checks if the implicit wait is applied to browser sessions.
+     * <p>
+     * When disabled, the implicit wait is set to zero and elements are only waited for explicitly,
+     * so lookups of missing elements fail straight away instead of blocking for {@link #implicitTime()}.
+     * </p>
+     *
+     * @return true if the implicit wait is enabled
+     */
+    @Key("implicitWaitEnabled")
+    @DefaultValue("false")
+    boolean implicitWaitEnabled();
+
+    /**
+     * Gets the maximum number of attempts for one page action, including the first one.
+     *
+     * @return the maximum number of attempts
+     */
+    @Key("retryMaxAttempts")
+    @DefaultValue("3")
+    int retryMaxAttempts();
+
+    /**
+     * Gets the base delay in milliseconds before retrying a page action. The delay doubles on every retry.
+     *
+     * @return the base retry delay
+     */
+    @Key("retryBaseDelayMillis")
+    @DefaultValue("100")
+    int retryBaseDelayMillis();
+
+    /**
+     * Gets the longest delay in milliseconds before retrying a page action.
+     *
+     * @return the maximum retry delay
+     */
+    @Key("retryMaxDelayMillis")
+    @DefaultValue("1000")
+    int retryMaxDelayMillis();
+
+    /**
+     * Gets the number of retries a single test may spend across all of its page actions.
+     *
+     * @return the retry budget per test
+     */
+    @Key("retryBudgetPerTest")
+    @DefaultValue("10")
+    int retryBudgetPerTest();
+
+    /**
+     * Gets the directory that run-level metrics reports are written to, relative to the working directory.
+     *
+     * @return the metrics directory
+     */
+    @Key("metricsDir")
+    @DefaultValue("target/metrics")
+    String metricsDir();
+
+    /**
+     * Checks if the informational logs of each test are buffered in memory and only written when the test fails.
+     *
+     * @return true if failure-only logging is enabled
+     */
+    @Key("failureOnlyLogging")
+    @DefaultValue("true")
+    boolean failureOnlyLogging();
+
+    /**
+     * Gets the number of log messages kept per test when failure-only logging is enabled.
+     *
+     * @return the log buffer size
+     */
+    @Key("testLogBufferSize")
+    @DefaultValue("500")
+    int testLogBufferSize();
+
+    /**
+     * Gets the directory that logs of failed tests are written to, relative to the working directory.
+     *
+     * @return the test log directory
+     */
+    @Key("testLogDir")
+    @DefaultValue("target/test-logs")
+    String testLogDir();
+
+    /**
+     * Gets the width in pixels that screenshots are scaled down to before they are attached.
+     *
+     * @return the maximum screenshot width
+     */
+    @Key("screenshotMaxWidth")
+    @DefaultValue("1024")
+    int screenshotMaxWidth();
+
+    /**
+     * Gets the JPEG quality of attached screenshots, from 0 to 1.
+     *
+     * @return the screenshot JPEG quality
+     */
+    @Key("screenshotJpegQuality")
+    @DefaultValue("0.7")
+    float screenshotJpegQuality();
+
+    /**
+     * Gets the number of threads that encode screenshots.
+     *
+     * @return the number of screenshot encoder threads
+     */
+    @Key("screenshotThreads")
+    @DefaultValue("1")
+    int screenshotThreads();
+
+    /**
+     * Gets the number of screenshots that may wait for encoding. Further screenshots are dropped.
+     *
+     * @return the screenshot queue size
+     */
+    @Key("screenshotQueueSize")
+    @DefaultValue("16")
+    int screenshotQueueSize();
+
+    /**
+     * Checks if a viewport screenshot is kept after each page action and attached when the test fails.
+     *
+     * @return true if step screenshots are enabled
+     */
+    @Key("stepScreenshots")
+    @DefaultValue("false")
+    boolean stepScreenshots();
+
+    /**
+     * Gets the number of most recent step screenshots kept per test.
+     *
+     * @return the step screenshot buffer size
+     */
+    @Key("stepScreenshotBufferSize")
+    @DefaultValue("5")
+    int stepScreenshotBufferSize();
+
+    /**
+     * Gets how often step screenshots are taken: 1 captures every page action, 2 every other one, and so on.
+     *
+     * @return the step screenshot interval
+     */
+    @Key("stepScreenshotInterval")
+    @DefaultValue("1")
+    int stepScreenshotInterval();
+
+    /**
+     * Checks if screenshots, logs and other artifacts are stored in the content-addressable artifact store.
+     *
+     * @return true if the artifact store is enabled
+     */
+    @Key("artifactStoreEnabled")
+    @DefaultValue("true")
+    boolean artifactStoreEnabled();
+
+    /**
+     * Gets the directory of the artifact store, relative to the user's home directory.
+     *
+     * @return the artifact store directory
+     */
+    @Key("artifactStoreDir")
+    @DefaultValue(".cache/evy-framework/artifacts")
+    String artifactStoreDir();
+
+    /**
+     * Gets the number of days runs are kept in the artifact store.
+     *
+     * @return the maximum age of stored runs, in days
+     */
+    @Key("artifactMaxAgeDays")
+    @DefaultValue("14")
+    int artifactMaxAgeDays();
+
+    /**
+     * Gets the size in megabytes the artifact store is trimmed to by deleting its oldest runs.
+     *
+     * @return the maximum size of the artifact store, in megabytes
+     */
+    @Key("artifactMaxSizeMb")
+    @DefaultValue("2048")
+    int artifactMaxSizeMb();
+
+    /**
+     * Checks if a screenshot is attached when a test fails.
+     *
+     * @return true if failure screenshots are enabled
+     */
+    @Key("screenshotOnFailure")
+    @DefaultValue("true")
+    boolean screenshotOnFailure();
+
+    /**
+     * Checks if a compressed DOM snapshot of the current page is attached when a test fails.
+     *
+     * @return true if failure DOM snapshots are enabled
+     */
+    @Key("domSnapshotOnFailure")
+    @DefaultValue("true")
+    boolean domSnapshotOnFailure();
+
+    /**
+     * Gets the maximum number of WebDriver commands a single test may send. Zero disables the budget.
+     * Opera sessions do not count their commands, so Opera only runs with the budget disabled.
+     *
+     * @return the per-test command budget
+     */
+    @Key("commandBudgetPerTest")
+    @DefaultValue("0")
+    int commandBudgetPerTest();
+
+    /**
+     * Gets what happens when a test exceeds its WebDriver command budget.
+     *
+     * @return the {@link CommandBudgetMode} value
+     */
+    @ConverterClass(CommandBudgetModeConverter.class)
+    @Key("commandBudgetMode")
+    @DefaultValue("WARN")
+    CommandBudgetMode commandBudgetMode();
+
+    /**
+     * Checks if the framework's Java Flight Recorder events are registered, for profiling runs in JDK Mission Control.
+     *
+     * @return true if JFR events are enabled
+     */
+    @Key("jfrEvents")
+    @DefaultValue("false")
+    boolean jfrEvents();
+
+    /**
+     * Checks if category navigation always goes through the dropdown menu instead of the category index.
+     *
+     * @return true if strict category navigation is enabled
+     */
+    @Key("categoryNavigationStrict")
+    @DefaultValue("false")
+    boolean categoryNavigationStrict();
+
+    /**
+     * Gets the page size used to read category listings into the product index.
+     *
+     * @return the number of products requested per listing page
+     */
+    @Key("productListPageSize")
+    @DefaultValue("36")
+    int productListPageSize();
+
+    /**
+     * Gets how long product URLs stay in the product index before their listing is read again.
+     *
+     * @return the product index TTL, in minutes
+     */
+    @Key("productIndexTtlMinutes")
+    @DefaultValue("30")
+    int productIndexTtlMinutes();
+
+    /**
+     * Checks if scenario prefixes shared by data-provider rows run once and are restored from a browser snapshot.
+     *
+     * @return true if scenario snapshots are enabled
+     */
+    @Key("scenarioSnapshots")
+    @DefaultValue("true")
+    boolean scenarioSnapshots();
+
+    /**
+     * Gets the email address of the stable test account used by journeys that only need a signed-in user.
+     * <p>
+     * Set it per environment, for example with {@code -DtestAccountEmail=...}. When it is empty, journeys
+     * register a fresh account on every run instead.
+     * </p>
+     *
+     * @return the test account email, or an empty string if none is configured
+     */
+    @Key("testAccountEmail")
+    @DefaultValue("")
+    String testAccountEmail();
+
+    /**
+     * Gets the password of the stable test account.
+     *
+     * @return the test account password, or an empty string if none is configured
+     */
+    @Key("testAccountPassword")
+    @DefaultValue("")
+    String testAccountPassword();
 }
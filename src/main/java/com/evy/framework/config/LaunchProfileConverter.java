@@ -0,0 +1,21 @@
+package com.evy.framework.config;
+
+import com.evy.framework.constants.LaunchProfile;
+import org.aeonbits.owner.Converter;
+
+import java.lang.reflect.Method;
+
+/**
+ * Converts a string to a {@link LaunchProfile} enum.
+ * <p>
+ * This class is used by the configuration library to convert
+ * string values from the configuration file to the appropriate
+ * {@link LaunchProfile} enum.
+ * </p>
+ */
+public final class LaunchProfileConverter implements Converter<LaunchProfile> {
+    @Override
+    public LaunchProfile convert(Method method, String launchProfile) {
+        return LaunchProfile.valueOf(launchProfile.toUpperCase());
+    }
+}
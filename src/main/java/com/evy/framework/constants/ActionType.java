@@ -0,0 +1,70 @@
+package com.evy.framework.constants;
+
+/**
+ * Enum for the kinds of page actions timed by the framework.
+ * <p>
+ * Used as part of the key of per-action latency histograms.
+ * </p>
+ */
+public enum ActionType {
+
+    /**
+     * Typing a value into an input.
+     */
+    SEND_KEYS,
+
+    /**
+     * Clicking an element.
+     */
+    CLICK,
+
+    /**
+     * Reading the text of an element.
+     */
+    GET_TEXT,
+
+    /**
+     * Checking whether an element is displayed.
+     */
+    IS_DISPLAYED,
+
+    /**
+     * Hovering the mouse over an element.
+     */
+    MOVE_TO,
+
+    /**
+     * Selecting an option from a dropdown.
+     */
+    SELECT,
+
+    /**
+     * Filling several form fields in one script call.
+     */
+    FILL_FORM,
+
+    /**
+     * Clicking an element and waiting for the next page.
+     */
+    NAVIGATE,
+
+    /**
+     * Waiting for a page condition.
+     */
+    WAIT,
+
+    /**
+     * Reading the current URL.
+     */
+    GET_URL,
+
+    /**
+     * Reading the state of several elements in one script call.
+     */
+    READ_PAGE,
+
+    /**
+     * Any other action.
+     */
+    OTHER
+}
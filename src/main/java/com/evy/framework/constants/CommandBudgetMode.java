@@ -0,0 +1,17 @@
+package com.evy.framework.constants;
+
+/**
+ * Enum for what happens when a test sends more WebDriver commands than its budget allows.
+ */
+public enum CommandBudgetMode {
+
+    /**
+     * Logs the overrun and marks it in the Allure report, but lets the test pass.
+     */
+    WARN,
+
+    /**
+     * Fails the test that overran its budget.
+     */
+    FAIL
+}
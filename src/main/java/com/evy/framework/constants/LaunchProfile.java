@@ -0,0 +1,25 @@
+package com.evy.framework.constants;
+
+/**
+ * Enum for browser launch profiles.
+ * <p>
+ * Lists the named argument sets the framework can start browsers with.
+ * </p>
+ */
+public enum LaunchProfile {
+
+    /**
+     * Headless, lean browser that loads no images and returns control as soon as the DOM is ready.
+     */
+    MINIMAL,
+
+    /**
+     * Headless, lean browser with a full page load, tuned for stable CI runs.
+     */
+    CI,
+
+    /**
+     * Visible browser with a full page load, for local debugging.
+     */
+    DEBUG
+}
@@ -0,0 +1,116 @@
+package com.evy.framework.drivers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Number and round-trip time of the WebDriver commands sent during one test, by command name.
+ * <p>
+ * Command names are the W3C endpoint names used by Selenium, such as {@code findElement},
+ * {@code clickElement} or {@code executeScript}.
+ * </p>
+ */
+public final class CommandCount {
+
+    private final Map<String, long[]> commands = new TreeMap<>();
+    private long total;
+    private long totalNanos;
+
+    CommandCount() {}
+
+    /**
+     * Records one command.
+     *
+     * @param command the command name
+     * @param nanos   the round-trip time, in nanoseconds
+     */
+    synchronized void record(String command, long nanos) {
+        long[] stats = commands.computeIfAbsent(command, key -> new long[2]);
+        stats[0]++;
+        stats[1] += nanos;
+        total++;
+        totalNanos += nanos;
+    }
+
+    /**
+     * Adds the commands of another count to this one.
+     *
+     * @param other the count to add
+     */
+    synchronized void add(CommandCount other) {
+        other.forEach((command, count, nanos) -> {
+            long[] stats = commands.computeIfAbsent(command, key -> new long[2]);
+            stats[0] += count;
+            stats[1] += nanos;
+            total += count;
+            totalNanos += nanos;
+        });
+    }
+
+    /**
+     * Calls the visitor once per command name, in name order.
+     *
+     * @param visitor receives the command name, the number of commands and their total time in nanoseconds
+     */
+    synchronized void forEach(CommandVisitor visitor) {
+        commands.forEach((command, stats) -> visitor.visit(command, stats[0], stats[1]));
+    }
+
+    /**
+     * Gets the number of commands sent.
+     *
+     * @return the total number of commands
+     */
+    public synchronized long total() {
+        return total;
+    }
+
+    /**
+     * Gets the total round-trip time of all commands.
+     *
+     * @return the total time, in milliseconds
+     */
+    public synchronized long totalMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(totalNanos);
+    }
+
+    /**
+     * Gets the total round-trip time of all commands.
+     *
+     * @return the total time, in nanoseconds
+     */
+    synchronized long totalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * Renders the commands as a plain text table, most frequent first.
+     *
+     * @return the rendered table
+     */
+    public synchronized String render() {
+        List<Map.Entry<String, long[]>> rows = new ArrayList<>(commands.entrySet());
+        rows.sort((a, b) -> Long.compare(b.getValue()[0], a.getValue()[0]));
+        StringBuilder table = new StringBuilder(String.format(Locale.ROOT, "%-32s %8s %12s %10s%n", "command", "count", "total ms", "avg ms"));
+        for (Map.Entry<String, long[]> row : rows) {
+            table.append(line(row.getKey(), row.getValue()[0], row.getValue()[1]));
+        }
+        return table.append(line("total", total, totalNanos)).toString();
+    }
+
+    private static String line(String command, long count, long nanos) {
+        return String.format(Locale.ROOT, "%-32s %8d %12.1f %10.2f%n", command, count, nanos / 1e6, count == 0 ? 0.0 : nanos / 1e6 / count);
+    }
+
+    /**
+     * Receives the statistics of one command name.
+     */
+    @FunctionalInterface
+    interface CommandVisitor {
+        void visit(String command, long count, long nanos);
+    }
+}
@@ -0,0 +1,37 @@
+package com.evy.framework.drivers;
+
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.CommandExecutor;
+import org.openqa.selenium.remote.Response;
+
+import java.io.IOException;
+
+/**
+ * Command executor decorator that records the name and round-trip time of every command a session sends.
+ * <p>
+ * Counts go to {@link CommandTelemetry}, which attributes them to the test running on the calling thread.
+ * </p>
+ */
+final class CommandCountingExecutor implements CommandExecutor {
+
+    private final CommandExecutor delegate;
+
+    /**
+     * Wraps a command executor.
+     *
+     * @param delegate the executor that sends the commands
+     */
+    CommandCountingExecutor(CommandExecutor delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Response execute(Command command) throws IOException {
+        long start = System.nanoTime();
+        try {
+            return delegate.execute(command);
+        } finally {
+            CommandTelemetry.record(command.getName(), System.nanoTime() - start);
+        }
+    }
+}
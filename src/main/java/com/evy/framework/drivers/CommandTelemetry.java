@@ -0,0 +1,130 @@
+package com.evy.framework.drivers;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Collects the WebDriver commands sent by every session.
+ * <p>
+ * Commands sent from a thread with a running test are counted against that test; all commands,
+ * including session setup and reset between tests, are counted for the run. Per-test counts are
+ * aggregated by test name, so data-driven tests report their total over all rows.
+ * </p>
+ */
+final class CommandTelemetry {
+
+    private static final ThreadLocal<CommandCount> CURRENT = new ThreadLocal<>();
+    private static final CommandCount RUN = new CommandCount();
+    private static final Map<String, TestTotals> BY_TEST = new ConcurrentHashMap<>();
+
+    private CommandTelemetry() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Starts counting commands for the test on the current thread.
+     */
+    static void start() {
+        CURRENT.set(new CommandCount());
+    }
+
+    /**
+     * Records one command sent from the current thread.
+     *
+     * @param command the command name
+     * @param nanos   the round-trip time, in nanoseconds
+     */
+    static void record(String command, long nanos) {
+        RUN.record(command, nanos);
+        CommandCount current = CURRENT.get();
+        if (current != null) {
+            current.record(command, nanos);
+        }
+    }
+
+    /**
+     * Stops counting commands for the current thread and adds them to the totals of the test.
+     *
+     * @param testName the name the commands are reported under
+     * @return the commands of the test, or null if counting was not started
+     */
+    static CommandCount stop(String testName) {
+        CommandCount current = CURRENT.get();
+        CURRENT.remove();
+        if (current != null) {
+            BY_TEST.computeIfAbsent(testName, key -> new TestTotals()).add(current);
+        }
+        return current;
+    }
+
+    /**
+     * Builds a summary of the commands sent during the run.
+     *
+     * @return the command summary
+     */
+    static String summary() {
+        return "WebDriver commands: " + RUN.total() + ", total round-trip: " + RUN.totalMillis() + " ms"
+                + ", tests counted: " + BY_TEST.size();
+    }
+
+    /**
+     * Writes the per-test command counts to {@code webdriver-commands.csv} in a directory,
+     * with one row per test and command name followed by a total row per test.
+     *
+     * @param dir the directory to write to
+     * @throws IOException if the file cannot be written
+     */
+    static void export(Path dir) throws IOException {
+        Files.createDirectories(dir);
+        try (Writer csv = Files.newBufferedWriter(dir.resolve("webdriver-commands.csv"), StandardCharsets.UTF_8)) {
+            csv.write("test,invocations,command,count,total_ms,avg_ms\n");
+            for (Map.Entry<String, TestTotals> entry : new TreeMap<>(BY_TEST).entrySet()) {
+                String test = entry.getKey();
+                TestTotals totals = entry.getValue();
+                synchronized (totals) {
+                    int invocations = totals.invocations;
+                    StringBuilder rows = new StringBuilder();
+                    totals.commands.forEach((command, count, nanos) -> rows.append(row(test, invocations, command, count, nanos)));
+                    rows.append(row(test, invocations, "*", totals.commands.total(), totals.commands.totalNanos()));
+                    csv.write(rows.toString());
+                }
+            }
+        }
+    }
+
+    private static String row(String test, int invocations, String command, long count, long nanos) {
+        return String.format(Locale.ROOT, "%s,%d,%s,%d,%.3f,%.3f\n", quote(test), invocations, quote(command), count,
+                nanos / 1e6, count == 0 ? 0.0 : nanos / 1e6 / count);
+    }
+
+    /**
+     * Quotes a CSV field that contains a comma, quote or line break, doubling its quotes.
+     */
+    static String quote(String field) {
+        if (field.indexOf(',') < 0 && field.indexOf('"') < 0 && field.indexOf('\n') < 0 && field.indexOf('\r') < 0) {
+            return field;
+        }
+        return '"' + field.replace("\"", "\"\"") + '"';
+    }
+
+    /**
+     * Commands of all invocations of one test.
+     */
+    private static final class TestTotals {
+
+        private final CommandCount commands = new CommandCount();
+        private int invocations;
+
+        private synchronized void add(CommandCount count) {
+            invocations++;
+            commands.add(count);
+        }
+    }
+}
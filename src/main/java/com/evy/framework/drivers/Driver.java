@@ -2,9 +2,13 @@ package com.evy.framework.drivers;
 
 import com.evy.framework.config.ConfigManager;
 import com.evy.framework.constants.BrowserType;
+import com.evy.framework.events.DriverLifecycleEvent;
+import com.evy.framework.events.FrameworkEvents;
 import com.evy.framework.utils.LoggerUtils;
 import org.openqa.selenium.WebDriver;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.time.Duration;
 
 /**
@@ -12,11 +16,13 @@ import java.time.Duration;
  * <p>
  * This class provides methods to initialize, configure, and quit a WebDriver instance.
  * Each thread gets its own WebDriver instance to avoid conflicts in parallel execution.
+ * Instances are leased from the {@link DriverPool}, so a warm browser is reused across test methods.
+ * Leases and releases are emitted as Flight Recorder events when enabled.
  * </p>
  */
 public final class Driver {
 
-    private static final ThreadLocal<WebDriver> THREAD_LOCAL = new ThreadLocal<>();
+    private static final ThreadLocal<PooledSession> THREAD_LOCAL = new ThreadLocal<>();
     private static final Driver INSTANCE = new Driver();
 
     private Driver() {
@@ -35,38 +41,96 @@ public final class Driver {
     /**
      * Initializes the WebDriver for the specified browser type.
      * <p>
-     * Sets up and configures the WebDriver based on the given browser type and stores it in a thread-local variable.
+     * Leases a WebDriver for the given browser type from the pool and stores it in a thread-local variable.
+     * New sessions are configured by the pool when they start; reused sessions were reset on release.
      * </p>
      *
      * @param browserType the type of browser to initialize
      */
     public void init(BrowserType browserType) {
+        DriverLifecycleEvent event = FrameworkEvents.beginDriverLifecycle();
         try {
-            WebDriver driver = DriverFactory.getDriver(browserType);
-            THREAD_LOCAL.set(driver);
-            configureDriver(driver);
-            LoggerUtils.info(Driver.class, "WebDriver initialized for browser: " + browserType);
+            PooledSession session = DriverPool.getInstance().lease(browserType);
+            THREAD_LOCAL.set(session);
+            LoggerUtils.info(Driver.class, "WebDriver initialized for browser: " + browserType + " (session use " + session.uses() + ")");
+            event.complete("init", browserType, session.uses(), true);
         } catch (Exception e) {
+            event.complete("init", browserType, 0, false);
             LoggerUtils.error(Driver.class, "Failed to initialize WebDriver for browser: " + browserType, e);
             throw new RuntimeException("Failed to initialize WebDriver", e);
         }
     }
 
     /**
-     * Quits the WebDriver and removes it from the current thread.
+     * Starts browser sessions in the background ahead of the first test.
      * <p>
-     * Closes the WebDriver instance and cleans up resources.
+     * Sessions are started in parallel and handed out by later {@link #init(BrowserType)} calls.
+     * Does nothing when the session pool is disabled, since every test then starts its own session.
+     * </p>
+     *
+     * @param browserType the type of browser to warm up
+     */
+    public void warmUp(BrowserType browserType) {
+        if (!ConfigManager.get().sessionPoolEnabled()) {
+            return;
+        }
+        DriverPool.getInstance().warmUp(browserType, ConfigManager.get().warmupSessions());
+        LoggerUtils.info(Driver.class, "Warming up " + ConfigManager.get().warmupSessions() + " " + browserType + " sessions");
+    }
+
+    /**
+     * Logs how often and how long tests waited for a browser session, and how many WebDriver commands were sent.
+     */
+    public void logSessionTelemetry() {
+        LoggerUtils.info(Driver.class, DriverTelemetry.summary());
+        LoggerUtils.info(Driver.class, CommandTelemetry.summary());
+    }
+
+    /**
+     * Starts counting the WebDriver commands sent from the current thread, for the test about to run.
+     */
+    public void startCommandCount() {
+        CommandTelemetry.start();
+    }
+
+    /**
+     * Stops counting the WebDriver commands of the current thread and adds them to the run totals of the test.
+     *
+     * @param testName the name the commands are reported under
+     * @return the commands sent since {@link #startCommandCount()}, or null if counting was not started
+     */
+    public CommandCount stopCommandCount(String testName) {
+        return CommandTelemetry.stop(testName);
+    }
+
+    /**
+     * Writes the WebDriver commands sent by each test to {@code webdriver-commands.csv} in a directory.
+     *
+     * @param dir the directory to write to
+     * @throws IOException if the file cannot be written
+     */
+    public void exportCommandCounts(Path dir) throws IOException {
+        CommandTelemetry.export(dir);
+    }
+
+    /**
+     * Releases the WebDriver back to the pool and removes it from the current thread.
+     * <p>
+     * The pool resets the session for reuse, or quits it once it is worn out or broken.
      * </p>
      */
     public void quitDriver() {
+        DriverLifecycleEvent event = FrameworkEvents.beginDriverLifecycle();
+        PooledSession session = THREAD_LOCAL.get();
         try {
-            WebDriver driver = THREAD_LOCAL.get();
-            if (driver != null) {
-                driver.quit();
+            if (session != null) {
                 THREAD_LOCAL.remove();
-                LoggerUtils.info(Driver.class, "WebDriver quit and removed from thread.");
+                DriverPool.getInstance().release(session);
+                LoggerUtils.info(Driver.class, "WebDriver released and removed from thread.");
+                event.complete("quit", session.browserType(), session.uses(), true);
             }
         } catch (Exception e) {
+            event.complete("quit", session.browserType(), session.uses(), false);
             LoggerUtils.error(Driver.class, "Error quitting WebDriver", e);
             throw new RuntimeException("Error quitting WebDriver", e);
         }
@@ -78,20 +142,40 @@ public final class Driver {
      * @return the WebDriver instance
      */
     public WebDriver getDriver() {
-        return THREAD_LOCAL.get();
+        PooledSession session = THREAD_LOCAL.get();
+        return session == null ? null : session.driver();
+    }
+
+    /**
+     * Reports a test failure for the current thread's session.
+     * <p>
+     * If the failure was caused by the browser or driver infrastructure, the session is marked broken
+     * so the pool recycles it instead of handing it to the next test.
+     * </p>
+     *
+     * @param throwable the failure cause
+     */
+    public void reportFailure(Throwable throwable) {
+        PooledSession session = THREAD_LOCAL.get();
+        if (session != null && DriverPool.isInfrastructureError(throwable)) {
+            session.markBroken();
+            LoggerUtils.info(Driver.class, "Session marked for recycling after infrastructure error: " + throwable);
+        }
     }
 
     /**
      * Configures the WebDriver with timeouts and initial URL.
      * <p>
-     * Sets the page load timeout, implicit wait timeout, and navigates to the configured URL.
+     * Sets the page load timeout, implicit wait timeout (zero unless enabled), script timeout, and navigates to the configured URL.
      * </p>
      *
      * @param driver the WebDriver to configure
      */
-    private void configureDriver(WebDriver driver) {
+    void configureDriver(WebDriver driver) {
         driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(ConfigManager.get().pageLoadTime()));
-        driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(ConfigManager.get().implicitTime()));
+        int implicitTime = ConfigManager.get().implicitWaitEnabled() ? ConfigManager.get().implicitTime() : 0;
+        driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(implicitTime));
+        driver.manage().timeouts().scriptTimeout(Duration.ofSeconds(ConfigManager.get().explicitWaitTime() * 2L));
         driver.get(ConfigManager.get().url());
     }
 }
@@ -0,0 +1,224 @@
+package com.evy.framework.drivers;
+
+import com.evy.framework.config.ConfigManager;
+import com.evy.framework.constants.BrowserType;
+import com.evy.framework.utils.LoggerUtils;
+import io.github.bonigarcia.wdm.WebDriverManager;
+import io.github.bonigarcia.wdm.online.HttpClient;
+import io.github.bonigarcia.wdm.versions.VersionDetector;
+import org.openqa.selenium.chrome.ChromeDriverService;
+import org.openqa.selenium.edge.EdgeDriverService;
+import org.openqa.selenium.firefox.GeckoDriverService;
+import org.openqa.selenium.remote.service.DriverService;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves driver executables once per JVM and browser type.
+ * <p>
+ * Resolved paths are kept in an on-disk index keyed by browser and local browser version, so later
+ * runs start sessions straight from the cached binary without version lookups or network access.
+ * WebDriverManager is only consulted when the installed browser version has no indexed driver.
+ * </p>
+ */
+final class DriverBinaryResolver {
+
+    private static final String INDEX_FILE = "driver-index.properties";
+    private static final Map<BrowserType, Path> RESOLVED = new ConcurrentHashMap<>();
+    private static final Map<BrowserType, Object> LOCKS = new ConcurrentHashMap<>();
+    private static final String UNKNOWN_VERSION = "unknown";
+
+    private DriverBinaryResolver() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Builds a driver service that starts from the resolved driver executable.
+     *
+     * @param browserType the type of browser (Chrome, Firefox or Edge)
+     * @return a new, not yet started driver service
+     * @throws IllegalArgumentException if the browser type has no standalone driver service
+     */
+    static DriverService service(BrowserType browserType) {
+        Path driverPath = resolve(browserType);
+        return switch (browserType) {
+            case CHROME -> new ChromeDriverService.Builder().usingDriverExecutable(driverPath.toFile()).usingAnyFreePort().build();
+            case FIREFOX -> new GeckoDriverService.Builder().usingDriverExecutable(driverPath.toFile()).usingAnyFreePort().build();
+            case EDGE -> new EdgeDriverService.Builder().usingDriverExecutable(driverPath.toFile()).usingAnyFreePort().build();
+            default -> throw new IllegalArgumentException("No driver service for browser type: " + browserType);
+        };
+    }
+
+    /**
+     * Resolves the driver executable for the specified browser type, at most once per JVM.
+     * <p>
+     * Resolution runs under a lock per browser type rather than inside the map, so its file and network IO
+     * never blocks other map entries.
+     * </p>
+     *
+     * @param browserType the type of browser
+     * @return the path of the driver executable
+     */
+    static Path resolve(BrowserType browserType) {
+        Path resolved = RESOLVED.get(browserType);
+        if (resolved != null) {
+            return resolved;
+        }
+        synchronized (LOCKS.computeIfAbsent(browserType, type -> new Object())) {
+            resolved = RESOLVED.get(browserType);
+            if (resolved == null) {
+                resolved = resolveUncached(browserType);
+                RESOLVED.put(browserType, resolved);
+            }
+            return resolved;
+        }
+    }
+
+    /**
+     * Resolves the driver executable through the on-disk index, or through WebDriverManager on a miss.
+     * <p>
+     * The index is keyed by browser version, so when the version cannot be detected the index is neither
+     * read nor written: a driver resolved for an unknown version may not match the browser of a later run.
+     * </p>
+     */
+    private static Path resolveUncached(BrowserType browserType) {
+        String browserName = browserType.name().toLowerCase();
+        Optional<String> browserVersion = detectBrowserVersion(browserType, browserName);
+        String key = browserName + "." + browserVersion.orElse(UNKNOWN_VERSION);
+
+        Optional<Path> indexed = browserVersion.isPresent() ? lookup(key) : Optional.empty();
+        if (indexed.isPresent()) {
+            LoggerUtils.info(DriverBinaryResolver.class, "Using indexed driver for " + key + ": " + indexed.get());
+            return indexed.get();
+        }
+
+        try {
+            WebDriverManager manager = managerFor(browserType);
+            browserVersion.ifPresent(manager::browserVersion);
+            manager.setup();
+            Path driverPath = Paths.get(manager.getDownloadedDriverPath());
+            if (browserVersion.isPresent()) {
+                store(key, driverPath);
+            }
+            LoggerUtils.info(DriverBinaryResolver.class, "Resolved driver for " + key + ": " + driverPath);
+            return driverPath;
+        } catch (RuntimeException e) {
+            Optional<Path> fallback = lookupLatest(browserName);
+            if (fallback.isPresent()) {
+                LoggerUtils.error(DriverBinaryResolver.class, "Driver resolution failed for " + key
+                        + ", falling back to indexed driver " + fallback.get(), e);
+                return fallback.get();
+            }
+            throw e;
+        }
+    }
+
+    private static Optional<String> detectBrowserVersion(BrowserType browserType, String browserName) {
+        WebDriverManager manager = managerFor(browserType);
+        try (HttpClient httpClient = new HttpClient(manager.config())) {
+            return new VersionDetector(manager.config(), httpClient).getBrowserVersionFromTheShell(browserName);
+        } catch (IOException | RuntimeException e) {
+            LoggerUtils.error(DriverBinaryResolver.class, "Could not detect local " + browserName + " version", e);
+            return Optional.empty();
+        }
+    }
+
+    private static WebDriverManager managerFor(BrowserType browserType) {
+        return switch (browserType) {
+            case CHROME -> WebDriverManager.chromedriver();
+            case FIREFOX -> WebDriverManager.firefoxdriver();
+            case EDGE -> WebDriverManager.edgedriver();
+            default -> throw new IllegalArgumentException("No driver binary for browser type: " + browserType);
+        };
+    }
+
+    private static Optional<Path> lookup(String key) {
+        return Optional.ofNullable(loadIndex().getProperty(key))
+                .map(Paths::get)
+                .filter(Files::isExecutable);
+    }
+
+    private static Optional<Path> lookupLatest(String browserName) {
+        Properties index = loadIndex();
+        return index.stringPropertyNames().stream()
+                .filter(key -> key.startsWith(browserName + ".") && !key.equals(browserName + "." + UNKNOWN_VERSION))
+                .sorted(Comparator.comparing((String key) -> key.substring(browserName.length() + 1),
+                        DriverBinaryResolver::compareVersions).reversed())
+                .map(key -> Paths.get(index.getProperty(key)))
+                .filter(Files::isExecutable)
+                .findFirst();
+    }
+
+    /**
+     * Compares two browser versions part by part, numerically. Non-numeric parts, such as an unknown
+     * version, rank below any number, and a version ranks below the longer versions it is a prefix of.
+     *
+     * @param a the first version, for example {@code 120.0.6099.109}
+     * @param b the second version
+     * @return a negative number, zero or a positive number as the first version is older, equal or newer
+     */
+    static int compareVersions(String a, String b) {
+        String[] left = a.split("\\.");
+        String[] right = b.split("\\.");
+        for (int i = 0; i < Math.max(left.length, right.length); i++) {
+            long l = i < left.length ? versionPart(left[i]) : -1;
+            long r = i < right.length ? versionPart(right[i]) : -1;
+            if (l != r) {
+                return Long.compare(l, r);
+            }
+        }
+        return 0;
+    }
+
+    private static long versionPart(String part) {
+        try {
+            return Long.parseLong(part);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static Path indexPath() {
+        return Paths.get(System.getProperty("user.home")).resolve(ConfigManager.get().driverCacheDir()).resolve(INDEX_FILE);
+    }
+
+    private static Properties loadIndex() {
+        Properties index = new Properties();
+        Path path = indexPath();
+        if (Files.exists(path)) {
+            try (InputStream in = Files.newInputStream(path)) {
+                index.load(in);
+            } catch (IOException e) {
+                LoggerUtils.error(DriverBinaryResolver.class, "Failed to read driver index " + path, e);
+            }
+        }
+        return index;
+    }
+
+    private static synchronized void store(String key, Path driverPath) {
+        Path path = indexPath();
+        try {
+            Files.createDirectories(path.getParent());
+            Properties index = loadIndex();
+            index.setProperty(key, driverPath.toAbsolutePath().toString());
+            Path tmp = Files.createTempFile(path.getParent(), INDEX_FILE, ".tmp");
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                index.store(out, "Resolved WebDriver executables by browser version");
+            }
+            Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LoggerUtils.error(DriverBinaryResolver.class, "Failed to update driver index " + path, e);
+        }
+    }
+}
@@ -1,25 +1,60 @@
 package com.evy.framework.drivers;
 
+import com.evy.framework.config.ConfigManager;
 import com.evy.framework.constants.BrowserType;
+import com.evy.framework.constants.LaunchProfile;
 import com.evy.framework.utils.LoggerUtils;
 import io.github.bonigarcia.wdm.WebDriverManager;
+import org.openqa.selenium.Capabilities;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeDriverService;
 import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.ChromiumOptions;
+import org.openqa.selenium.edge.EdgeDriver;
+import org.openqa.selenium.edge.EdgeDriverService;
 import org.openqa.selenium.edge.EdgeOptions;
+import org.openqa.selenium.firefox.FirefoxDriver;
+import org.openqa.selenium.firefox.FirefoxDriverService;
 import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.firefox.GeckoDriverService;
+import org.openqa.selenium.remote.service.DriverService;
+import org.openqa.selenium.safari.SafariDriver;
+import org.openqa.selenium.safari.SafariDriverService;
+import org.openqa.selenium.safari.SafariOptions;
 
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Factory for creating WebDriver instances for different browsers.
  * <p>
  * Provides WebDriver instances based on the specified browser type.
+ * Chrome, Firefox and Edge start from driver executables resolved once by {@link DriverBinaryResolver}.
+ * By default the factory keeps one long-running driver service per browser type for the whole JVM and
+ * opens every session against it, restarting the service if it has died.
+ * Browser options come from the configured {@link LaunchProfile}, and the startup time of every
+ * session is recorded per profile. Chrome and Edge sessions start from a clone of a template profile
+ * with a warm HTTP cache (see {@link ProfileTemplates}).
+ * Every session except Opera's counts the WebDriver commands it sends. Opera sessions are created by
+ * WebDriverManager, whose command executor cannot be wrapped, so Opera refuses to start while a per-test
+ * command budget is set.
  * </p>
  */
 public final class DriverFactory {
 
     private static final Map<BrowserType, DriverSupplier> DRIVERS_MAP = new EnumMap<>(BrowserType.class);
+    private static final Map<BrowserType, DriverService> SERVICES = new EnumMap<>(BrowserType.class);
+    private static final Duration SERVICE_TIMEOUT = Duration.ofSeconds(20);
 
     private DriverFactory() {
         // Prevent instantiation
@@ -44,8 +79,14 @@ public final class DriverFactory {
         try {
             DriverSupplier supplier = DRIVERS_MAP.get(browserType);
             if (supplier != null) {
-                LoggerUtils.info(DriverFactory.class, browserType + " driver initialized successfully");
-                return supplier.getDriver();
+                long start = System.nanoTime();
+                WebDriver driver = supplier.getDriver();
+                long startupNanos = System.nanoTime() - start;
+                LaunchProfile profile = ConfigManager.get().launchProfile();
+                DriverTelemetry.recordStartup(browserType, profile, startupNanos);
+                LoggerUtils.info(DriverFactory.class, browserType + " driver initialized successfully with " + profile
+                        + " launch profile in " + TimeUnit.NANOSECONDS.toMillis(startupNanos) + " ms");
+                return driver;
             } else {
                 throw new IllegalArgumentException("Unsupported browser type: " + browserType);
             }
@@ -55,38 +96,270 @@ public final class DriverFactory {
         }
     }
 
+    /**
+     * Cleans up per-session resources of a session that has quit, such as its cloned profile directory.
+     *
+     * @param driver the session that has quit
+     */
+    static void release(WebDriver driver) {
+        ProfileTemplates.release(driver);
+    }
+
+    /**
+     * Stops every shared driver service started by this factory and deletes the profile templates.
+     */
+    static synchronized void shutdown() {
+        for (DriverService service : SERVICES.values()) {
+            try {
+                service.stop();
+            } catch (RuntimeException e) {
+                LoggerUtils.error(DriverFactory.class, "Failed to stop driver service", e);
+            }
+        }
+        SERVICES.clear();
+        ProfileTemplates.deleteAll();
+    }
+
+    /**
+     * Opens a Chromium based session on a clone of the browser's template profile, so the first page
+     * load is served from a warm HTTP cache. Falls back to an empty profile if templates are disabled.
+     *
+     * @param browserType the type of browser to start
+     * @param options     the browser options
+     * @return a new WebDriver session
+     */
+    private static WebDriver startChromiumSession(BrowserType browserType, ChromiumOptions<?> options) {
+        Optional<Path> profileDir = ProfileTemplates.cloneFor(browserType, templateDir -> {
+            ChromiumOptions<?> templateOptions = browserType == BrowserType.EDGE
+                    ? LaunchProfiles.edge(ConfigManager.get().launchProfile())
+                    : LaunchProfiles.chrome(ConfigManager.get().launchProfile());
+            templateOptions.addArguments("--user-data-dir=" + templateDir);
+            return startSession(browserType, templateOptions);
+        });
+        profileDir.ifPresent(dir -> options.addArguments("--user-data-dir=" + dir));
+        try {
+            WebDriver driver = startSession(browserType, options);
+            profileDir.ifPresent(dir -> ProfileTemplates.track(driver, dir));
+            return driver;
+        } catch (RuntimeException e) {
+            profileDir.ifPresent(ProfileTemplates::delete);
+            throw e;
+        }
+    }
+
+    /**
+     * Opens a session for the specified browser type.
+     * <p>
+     * Sessions are instances of the browser-specific driver classes, so interfaces such as {@code HasDevTools}
+     * and {@code HasCdp} stay available. Uses the shared driver service when enabled; if the session cannot
+     * reach the service and the service turns out to be dead, it is restarted and the session is opened once more.
+     * Otherwise a dedicated service is started that stops together with the session.
+     * Every command the session sends is counted by a {@link CommandCountingExecutor}.
+     * </p>
+     *
+     * @param browserType the type of browser to start
+     * @param options     the browser options
+     * @return a new WebDriver session
+     */
+    private static WebDriver startSession(BrowserType browserType, Capabilities options) {
+        if (!ConfigManager.get().sharedDriverService()) {
+            return newDriver(browserType, DriverBinaryResolver.service(browserType), options);
+        }
+        DriverService service = sharedService(browserType);
+        try {
+            return newDriver(browserType, sharedServiceHandle(browserType, service), options);
+        } catch (WebDriverException e) {
+            if (service.isRunning()) {
+                throw e;
+            }
+            return newDriver(browserType, sharedServiceHandle(browserType, sharedService(browserType)), options);
+        }
+    }
+
+    private static WebDriver newDriver(BrowserType browserType, DriverService service, Capabilities options) {
+        return switch (browserType) {
+            case CHROME -> new CountingChromeDriver((ChromeDriverService) service, (ChromeOptions) options);
+            case EDGE -> new CountingEdgeDriver((EdgeDriverService) service, (EdgeOptions) options);
+            case FIREFOX -> new CountingFirefoxDriver((FirefoxDriverService) service, (FirefoxOptions) options);
+            default -> throw new IllegalArgumentException("No driver service for browser type: " + browserType);
+        };
+    }
+
+    /**
+     * Builds a handle on a shared driver service for one session.
+     * <p>
+     * The browser-specific driver classes stop their service when the session quits. The handle points a
+     * session at the same port as the shared service and ignores start and stop requests, so the shared
+     * service outlives the session and keeps serving the others.
+     * </p>
+     *
+     * @param browserType the type of browser
+     * @param shared      the running shared service
+     * @return a service handle that is never started or stopped by its session
+     */
+    private static DriverService sharedServiceHandle(BrowserType browserType, DriverService shared) {
+        File executable = new File(shared.getExecutable());
+        int port = shared.getUrl().getPort();
+        try {
+            return switch (browserType) {
+                case CHROME -> new ChromeDriverService(executable, port, SERVICE_TIMEOUT, List.of(), Map.of()) {
+                    @Override
+                    public boolean isRunning() {
+                        return shared.isRunning();
+                    }
+
+                    @Override
+                    public void start() {
+                        // Started and restarted by the factory
+                    }
+
+                    @Override
+                    public void stop() {
+                        // Stopped by the factory on shutdown
+                    }
+                };
+                case EDGE -> new EdgeDriverService(executable, port, SERVICE_TIMEOUT, List.of(), Map.of()) {
+                    @Override
+                    public boolean isRunning() {
+                        return shared.isRunning();
+                    }
+
+                    @Override
+                    public void start() {
+                        // Started and restarted by the factory
+                    }
+
+                    @Override
+                    public void stop() {
+                        // Stopped by the factory on shutdown
+                    }
+                };
+                case FIREFOX -> new GeckoDriverService(executable, port, SERVICE_TIMEOUT, List.of(), Map.of()) {
+                    @Override
+                    public boolean isRunning() {
+                        return shared.isRunning();
+                    }
+
+                    @Override
+                    public void start() {
+                        // Started and restarted by the factory
+                    }
+
+                    @Override
+                    public void stop() {
+                        // Stopped by the factory on shutdown
+                    }
+                };
+                default -> throw new IllegalArgumentException("No driver service for browser type: " + browserType);
+            };
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to attach to " + browserType + " driver service", e);
+        }
+    }
+
+    /**
+     * Gets the running shared driver service for the specified browser type.
+     * <p>
+     * Starts the service on first use and restarts it if the health check finds it is no longer running.
+     * </p>
+     *
+     * @param browserType the type of browser
+     * @return the running driver service
+     */
+    private static synchronized DriverService sharedService(BrowserType browserType) {
+        DriverService service = SERVICES.get(browserType);
+        if (service != null && service.isRunning()) {
+            return service;
+        }
+        if (service != null) {
+            LoggerUtils.error(DriverFactory.class, browserType + " driver service is not running, restarting it", null);
+        }
+        try {
+            service = DriverBinaryResolver.service(browserType);
+            service.start();
+            SERVICES.put(browserType, service);
+            LoggerUtils.info(DriverFactory.class, browserType + " driver service started at " + service.getUrl());
+            return service;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to start " + browserType + " driver service", e);
+        }
+    }
+
+    /**
+     * Chrome session whose commands are counted.
+     */
+    private static final class CountingChromeDriver extends ChromeDriver {
+        private CountingChromeDriver(ChromeDriverService service, ChromeOptions options) {
+            super(service, options);
+            setCommandExecutor(new CommandCountingExecutor(getCommandExecutor()));
+        }
+    }
+
+    /**
+     * Edge session whose commands are counted.
+     */
+    private static final class CountingEdgeDriver extends EdgeDriver {
+        private CountingEdgeDriver(EdgeDriverService service, EdgeOptions options) {
+            super(service, options);
+            setCommandExecutor(new CommandCountingExecutor(getCommandExecutor()));
+        }
+    }
+
+    /**
+     * Safari session whose commands are counted.
+     */
+    private static final class CountingSafariDriver extends SafariDriver {
+        private CountingSafariDriver(SafariOptions options) {
+            super(SafariDriverService.createDefaultService(), options);
+            setCommandExecutor(new CommandCountingExecutor(getCommandExecutor()));
+        }
+    }
+
+    /**
+     * Firefox session whose commands are counted.
+     */
+    private static final class CountingFirefoxDriver extends FirefoxDriver {
+        private CountingFirefoxDriver(FirefoxDriverService service, FirefoxOptions options) {
+            super(service, options);
+            setCommandExecutor(new CommandCountingExecutor(getCommandExecutor()));
+        }
+    }
+
     private static final class ChromeDriverSupplier implements DriverSupplier {
         @Override
         public WebDriver getDriver() {
-            return WebDriverManager.chromedriver().capabilities(new ChromeOptions().addArguments("--headless")).create();
+            return startChromiumSession(BrowserType.CHROME, LaunchProfiles.chrome(ConfigManager.get().launchProfile()));
         }
     }
 
     private static final class FirefoxDriverSupplier implements DriverSupplier {
         @Override
         public WebDriver getDriver() {
-            return WebDriverManager.firefoxdriver().capabilities(new FirefoxOptions().addArguments("--headless")).create();
+            return startSession(BrowserType.FIREFOX, LaunchProfiles.firefox(ConfigManager.get().launchProfile()));
         }
     }
 
     private static final class EdgeDriverSupplier implements DriverSupplier {
         @Override
         public WebDriver getDriver() {
-            return WebDriverManager.edgedriver().capabilities(new EdgeOptions().addArguments("--headless")).create();
+            return startChromiumSession(BrowserType.EDGE, LaunchProfiles.edge(ConfigManager.get().launchProfile()));
         }
     }
 
     private static final class OperaDriverSupplier implements DriverSupplier {
         @Override
         public WebDriver getDriver() {
-            return WebDriverManager.operadriver().create();
+            if (ConfigManager.get().commandBudgetPerTest() > 0) {
+                throw new IllegalStateException("Opera sessions do not count WebDriver commands, so commandBudgetPerTest must be 0 when running on Opera");
+            }
+            return WebDriverManager.operadriver().capabilities(LaunchProfiles.chrome(ConfigManager.get().launchProfile())).create();
         }
     }
 
     private static final class SafariDriverSupplier implements DriverSupplier {
         @Override
         public WebDriver getDriver() {
-            return WebDriverManager.safaridriver().create();
+            return new CountingSafariDriver(LaunchProfiles.safari(ConfigManager.get().launchProfile()));
         }
     }
 }
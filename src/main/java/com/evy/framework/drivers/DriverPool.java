@@ -0,0 +1,315 @@
+package com.evy.framework.drivers;
+
+import com.evy.framework.config.ConfigManager;
+import com.evy.framework.constants.BrowserType;
+import com.evy.framework.utils.LoggerUtils;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.SessionNotCreatedException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.remote.UnreachableBrowserException;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded pool of warm WebDriver sessions.
+ * <p>
+ * Sessions are leased to a single thread at a time and returned on release. A returned session is
+ * reset (extra windows, storage and cookies) and sent back to the configured URL before it is offered
+ * to the next lease. Sessions are quit and replaced after the configured number of uses or after an
+ * infrastructure error. The pool capacity is shared by all browser types: when a lease finds no capacity left,
+ * an idle session of another browser type is quit to make room, so idle sessions of one type cannot starve
+ * leases of another.
+ * </p>
+ * <p>
+ * Sessions can also be started ahead of demand on background threads: {@link #warmUp} starts a batch in
+ * parallel when the suite begins, and every lease tops the idle queue back up to the configured number of
+ * ready sessions.
+ * </p>
+ */
+final class DriverPool {
+
+    private static final DriverPool INSTANCE = new DriverPool();
+
+    private static final String CLEAR_STORAGE_SCRIPT =
+            "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}";
+
+    private static final long IDLE_POLL_MILLIS = 250;
+
+    private final Map<BrowserType, BlockingDeque<PooledSession>> idleSessions = new EnumMap<>(BrowserType.class);
+    private final Map<BrowserType, AtomicInteger> pendingWarmups = new EnumMap<>(BrowserType.class);
+    private final Semaphore capacity;
+    private final ExecutorService warmer;
+
+    private DriverPool() {
+        for (BrowserType browserType : BrowserType.values()) {
+            idleSessions.put(browserType, new LinkedBlockingDeque<>());
+            pendingWarmups.put(browserType, new AtomicInteger());
+        }
+        int poolSize = Math.max(1, ConfigManager.get().sessionPoolSize());
+        capacity = new Semaphore(poolSize);
+        warmer = Executors.newFixedThreadPool(poolSize, runnable -> {
+            Thread thread = new Thread(runnable, "driver-warmer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "driver-pool-shutdown"));
+    }
+
+    /**
+     * Gets the singleton instance of the DriverPool class.
+     *
+     * @return the singleton DriverPool instance
+     */
+    static DriverPool getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Starts sessions for the specified browser type in parallel on background threads.
+     * Does nothing when the session pool is disabled.
+     *
+     * @param browserType the type of browser to start
+     * @param count       the number of sessions to start, bounded by the free pool capacity
+     */
+    void warmUp(BrowserType browserType, int count) {
+        if (!ConfigManager.get().sessionPoolEnabled()) {
+            return;
+        }
+        for (int i = 0; i < count; i++) {
+            if (!submitWarmup(browserType)) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Leases a session for the specified browser type.
+     * <p>
+     * Returns an idle session if one is available. Otherwise waits for a session that is being warmed
+     * in the background, starts a new one on the calling thread while the pool has capacity, quits an idle
+     * session of another browser type to free capacity, or waits for another thread to release a session.
+     * </p>
+     *
+     * @param browserType the type of browser to lease
+     * @return the leased session
+     * @throws IllegalStateException if no session becomes available within the lease timeout
+     */
+    PooledSession lease(BrowserType browserType) {
+        BlockingDeque<PooledSession> idle = idleSessions.get(browserType);
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.SECONDS.toNanos(ConfigManager.get().sessionLeaseTimeout());
+        try {
+            PooledSession session = idle.pollFirst();
+            boolean waited = session == null;
+            while (session == null) {
+                boolean warming = pendingWarmups.get(browserType).get() > 0;
+                if (!warming && capacity.tryAcquire()) {
+                    session = create(browserType);
+                } else if (!warming && evictIdleSessionOtherThan(browserType)) {
+                    continue;
+                } else if (System.nanoTime() - deadline >= 0) {
+                    throw new IllegalStateException("No " + browserType + " session became available within "
+                            + ConfigManager.get().sessionLeaseTimeout() + " seconds");
+                } else {
+                    session = idle.pollFirst(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                }
+            }
+            if (waited) {
+                DriverTelemetry.recordWaitedLease(System.nanoTime() - start);
+            } else {
+                DriverTelemetry.recordImmediateLease();
+            }
+            session.markLeased();
+            replenish(browserType);
+            return session;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a " + browserType + " session", e);
+        }
+    }
+
+    /**
+     * Returns a leased session to the pool.
+     * <p>
+     * The session is reset and made available to the next lease, or quit if it is broken,
+     * has reached its maximum number of uses, or pooling is disabled.
+     * </p>
+     *
+     * @param session the session to release
+     */
+    void release(PooledSession session) {
+        if (!ConfigManager.get().sessionPoolEnabled() || session.isBroken()
+                || session.uses() >= ConfigManager.get().sessionMaxUses()) {
+            discard(session);
+            return;
+        }
+        try {
+            reset(session.driver());
+            idleSessions.get(session.browserType()).offerFirst(session);
+        } catch (WebDriverException e) {
+            LoggerUtils.error(DriverPool.class, "Failed to reset pooled session, recycling it", e);
+            discard(session);
+        }
+    }
+
+    /**
+     * Checks if the given throwable, or any of its causes, signals a broken browser session.
+     *
+     * @param throwable the throwable to inspect
+     * @return true if the error comes from the browser or driver infrastructure
+     */
+    static boolean isInfrastructureError(Throwable throwable) {
+        for (Throwable t = throwable; t != null; t = t.getCause()) {
+            if (t instanceof NoSuchSessionException || t instanceof SessionNotCreatedException
+                    || t instanceof UnreachableBrowserException) {
+                return true;
+            }
+            String message = t.getMessage();
+            if (t instanceof WebDriverException && message != null
+                    && (message.contains("disconnected") || message.contains("not reachable") || message.contains("crashed"))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Quits the least recently used idle session of a browser type other than the given one, which gives its
+     * capacity permit back to the pool.
+     *
+     * @param browserType the browser type that needs capacity
+     * @return true if a session was quit
+     */
+    private boolean evictIdleSessionOtherThan(BrowserType browserType) {
+        for (Map.Entry<BrowserType, BlockingDeque<PooledSession>> entry : idleSessions.entrySet()) {
+            if (entry.getKey() == browserType) {
+                continue;
+            }
+            PooledSession session = entry.getValue().pollLast();
+            if (session != null) {
+                LoggerUtils.info(DriverPool.class, "Evicting idle " + entry.getKey() + " session to make room for " + browserType);
+                discard(session);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Tops up the idle sessions of the specified browser type to the configured ready count,
+     * unless the session pool is disabled.
+     *
+     * @param browserType the type of browser to keep ready
+     */
+    private void replenish(BrowserType browserType) {
+        if (!ConfigManager.get().sessionPoolEnabled()) {
+            return;
+        }
+        int ready = idleSessions.get(browserType).size() + pendingWarmups.get(browserType).get();
+        for (int i = ready; i < ConfigManager.get().warmupReadySessions(); i++) {
+            if (!submitWarmup(browserType)) {
+                break;
+            }
+        }
+    }
+
+    private boolean submitWarmup(BrowserType browserType) {
+        if (!capacity.tryAcquire()) {
+            return false;
+        }
+        AtomicInteger pending = pendingWarmups.get(browserType);
+        pending.incrementAndGet();
+        warmer.execute(() -> {
+            try {
+                idleSessions.get(browserType).offerLast(create(browserType));
+                DriverTelemetry.recordWarmedSession();
+            } catch (RuntimeException e) {
+                LoggerUtils.error(DriverPool.class, "Failed to warm up " + browserType + " session", e);
+            } finally {
+                pending.decrementAndGet();
+            }
+        });
+        return true;
+    }
+
+    /**
+     * Starts and configures a new session. The caller must already hold a capacity permit,
+     * which is given back if the session cannot be started.
+     *
+     * @param browserType the type of browser to start
+     * @return the new session
+     */
+    private PooledSession create(BrowserType browserType) {
+        try {
+            WebDriver driver = DriverFactory.getDriver(browserType);
+            try {
+                Driver.getInstance().configureDriver(driver);
+            } catch (RuntimeException e) {
+                driver.quit();
+                throw e;
+            }
+            return new PooledSession(driver, browserType);
+        } catch (RuntimeException e) {
+            capacity.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Resets a session to a clean state: closes extra windows, clears storage and cookies,
+     * and navigates back to the configured URL.
+     *
+     * @param driver the WebDriver to reset
+     */
+    private void reset(WebDriver driver) {
+        String mainWindow = driver.getWindowHandles().iterator().next();
+        for (String handle : driver.getWindowHandles()) {
+            if (!handle.equals(mainWindow)) {
+                driver.switchTo().window(handle).close();
+            }
+        }
+        driver.switchTo().window(mainWindow);
+        ((JavascriptExecutor) driver).executeScript(CLEAR_STORAGE_SCRIPT);
+        driver.manage().deleteAllCookies();
+        driver.get(ConfigManager.get().url());
+    }
+
+    /**
+     * Quits a session and frees its resources and its capacity permit. The session's profile directory is
+     * released even if the quit fails, since a crashed or hung browser is the usual reason to discard it.
+     *
+     * @param session the session to discard
+     */
+    private void discard(PooledSession session) {
+        try {
+            session.driver().quit();
+            LoggerUtils.info(DriverPool.class, session.browserType() + " session quit after " + session.uses() + " uses");
+        } catch (WebDriverException e) {
+            LoggerUtils.error(DriverPool.class, "Error quitting pooled session", e);
+        } finally {
+            DriverFactory.release(session.driver());
+            capacity.release();
+        }
+    }
+
+    private void shutdown() {
+        warmer.shutdownNow();
+        for (BlockingDeque<PooledSession> idle : idleSessions.values()) {
+            PooledSession session;
+            while ((session = idle.pollFirst()) != null) {
+                discard(session);
+            }
+        }
+        DriverFactory.shutdown();
+    }
+}
@@ -0,0 +1,105 @@
+package com.evy.framework.drivers;
+
+import com.evy.framework.constants.BrowserType;
+import com.evy.framework.constants.LaunchProfile;
+
+import java.util.LongSummaryStatistics;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects run-level statistics about browser session leases.
+ * <p>
+ * Records how many leases were served from a warm session straight away and how often,
+ * and for how long, a test had to wait for a browser to become available. Also records the
+ * startup cost of each browser and launch profile, to compare profiles for CI.
+ * </p>
+ */
+final class DriverTelemetry {
+
+    private static final LongAdder LEASES = new LongAdder();
+    private static final LongAdder WAITS = new LongAdder();
+    private static final LongAdder WAIT_NANOS = new LongAdder();
+    private static final LongAccumulator MAX_WAIT_NANOS = new LongAccumulator(Math::max, 0);
+    private static final LongAdder WARMED = new LongAdder();
+    private static final Map<String, LongSummaryStatistics> STARTUP_MILLIS = new ConcurrentHashMap<>();
+
+    private DriverTelemetry() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Records a lease that was served by an idle session without waiting.
+     */
+    static void recordImmediateLease() {
+        LEASES.increment();
+    }
+
+    /**
+     * Records a lease that had to wait for a session to be started or released.
+     *
+     * @param waitNanos the time the test waited, in nanoseconds
+     */
+    static void recordWaitedLease(long waitNanos) {
+        LEASES.increment();
+        WAITS.increment();
+        WAIT_NANOS.add(waitNanos);
+        MAX_WAIT_NANOS.accumulate(waitNanos);
+    }
+
+    /**
+     * Records a session started in the background by the warmer.
+     */
+    static void recordWarmedSession() {
+        WARMED.increment();
+    }
+
+    /**
+     * Records how long a browser session took to start.
+     *
+     * @param browserType  the type of browser started
+     * @param profile      the launch profile it was started with
+     * @param startupNanos the startup time, in nanoseconds
+     */
+    static void recordStartup(BrowserType browserType, LaunchProfile profile, long startupNanos) {
+        LongSummaryStatistics stats = STARTUP_MILLIS.computeIfAbsent(browserType + "/" + profile, key -> new LongSummaryStatistics());
+        synchronized (stats) {
+            stats.accept(TimeUnit.NANOSECONDS.toMillis(startupNanos));
+        }
+    }
+
+    /**
+     * Builds a summary of the lease statistics and the startup cost per browser and launch profile.
+     *
+     * @return the telemetry summary
+     */
+    static String summary() {
+        long waits = WAITS.sum();
+        long totalWaitMillis = TimeUnit.NANOSECONDS.toMillis(WAIT_NANOS.sum());
+        return "Session leases: " + LEASES.sum()
+                + ", warmed in background: " + WARMED.sum()
+                + ", waited for a browser: " + waits
+                + ", total wait: " + totalWaitMillis + " ms"
+                + ", average wait: " + (waits == 0 ? 0 : totalWaitMillis / waits) + " ms"
+                + ", max wait: " + TimeUnit.NANOSECONDS.toMillis(MAX_WAIT_NANOS.get()) + " ms"
+                + startupSummary();
+    }
+
+    private static String startupSummary() {
+        StringBuilder summary = new StringBuilder();
+        STARTUP_MILLIS.forEach((key, stats) -> {
+            synchronized (stats) {
+                summary.append(System.lineSeparator())
+                        .append("Startup ").append(key)
+                        .append(": sessions ").append(stats.getCount())
+                        .append(", average ").append(Math.round(stats.getAverage())).append(" ms")
+                        .append(", min ").append(stats.getMin()).append(" ms")
+                        .append(", max ").append(stats.getMax()).append(" ms");
+            }
+        });
+        return summary.toString();
+    }
+}
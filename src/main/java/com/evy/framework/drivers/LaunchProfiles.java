@@ -0,0 +1,111 @@
+package com.evy.framework.drivers;
+
+import com.evy.framework.constants.LaunchProfile;
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.ChromiumOptions;
+import org.openqa.selenium.edge.EdgeOptions;
+import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.safari.SafariOptions;
+
+import java.util.List;
+
+/**
+ * Builds browser options for each {@link LaunchProfile}.
+ * <p>
+ * Every profile uses a fixed window size and its own page load strategy. The lean profiles
+ * also switch off extensions, background networking, GPU and first-run work. The minimal profile
+ * additionally skips images, notifications and optional browser features, so pages load with the
+ * fewest requests; screenshots taken with it show no images.
+ * </p>
+ */
+final class LaunchProfiles {
+
+    private static final int WINDOW_WIDTH = 1366;
+    private static final int WINDOW_HEIGHT = 768;
+
+    private static final List<String> LEAN_CHROMIUM_ARGUMENTS = List.of(
+            "--disable-extensions",
+            "--disable-background-networking",
+            "--disable-component-update",
+            "--disable-default-apps",
+            "--disable-sync",
+            "--disable-gpu",
+            "--disable-dev-shm-usage",
+            "--no-first-run",
+            "--no-default-browser-check",
+            "--mute-audio");
+
+    private static final List<String> MINIMAL_CHROMIUM_ARGUMENTS = List.of(
+            "--blink-settings=imagesEnabled=false",
+            "--disable-notifications",
+            "--disable-client-side-phishing-detection",
+            "--disable-features=Translate,OptimizationHints,MediaRouter,AutofillServerCommunication",
+            "--disable-renderer-backgrounding");
+
+    private LaunchProfiles() {
+        // Prevent instantiation
+    }
+
+    static ChromeOptions chrome(LaunchProfile profile) {
+        return chromium(new ChromeOptions(), profile);
+    }
+
+    static EdgeOptions edge(LaunchProfile profile) {
+        return chromium(new EdgeOptions(), profile);
+    }
+
+    static FirefoxOptions firefox(LaunchProfile profile) {
+        FirefoxOptions options = new FirefoxOptions();
+        options.setPageLoadStrategy(pageLoadStrategy(profile));
+        options.addArguments("--width=" + WINDOW_WIDTH, "--height=" + WINDOW_HEIGHT);
+        if (profile != LaunchProfile.DEBUG) {
+            options.addArguments("-headless");
+            options.addPreference("browser.shell.checkDefaultBrowser", false);
+            options.addPreference("browser.startup.homepage_override.mstone", "ignore");
+            options.addPreference("app.update.auto", false);
+            options.addPreference("extensions.update.enabled", false);
+            options.addPreference("datareporting.policy.dataSubmissionEnabled", false);
+            options.addPreference("toolkit.telemetry.enabled", false);
+            options.addPreference("network.prefetch-next", false);
+            options.addPreference("layers.acceleration.disabled", true);
+        }
+        if (profile == LaunchProfile.MINIMAL) {
+            options.addPreference("permissions.default.image", 2);
+            options.addPreference("dom.webnotifications.enabled", false);
+            options.addPreference("browser.safebrowsing.malware.enabled", false);
+            options.addPreference("browser.safebrowsing.phishing.enabled", false);
+        }
+        return options;
+    }
+
+    /**
+     * Builds Safari options. Safari takes no command-line arguments, so only the
+     * page load strategy of the profile applies.
+     *
+     * @param profile the launch profile
+     * @return the Safari options
+     */
+    static SafariOptions safari(LaunchProfile profile) {
+        SafariOptions options = new SafariOptions();
+        options.setPageLoadStrategy(pageLoadStrategy(profile));
+        return options;
+    }
+
+    private static <T extends ChromiumOptions<?>> T chromium(T options, LaunchProfile profile) {
+        options.setPageLoadStrategy(pageLoadStrategy(profile));
+        options.addArguments("--window-size=" + WINDOW_WIDTH + "," + WINDOW_HEIGHT);
+        if (profile != LaunchProfile.DEBUG) {
+            options.addArguments("--headless=new");
+            options.addArguments(LEAN_CHROMIUM_ARGUMENTS);
+        }
+        if (profile == LaunchProfile.MINIMAL) {
+            options.addArguments(MINIMAL_CHROMIUM_ARGUMENTS);
+        }
+        return options;
+    }
+
+    private static PageLoadStrategy pageLoadStrategy(LaunchProfile profile) {
+        return profile == LaunchProfile.MINIMAL ? PageLoadStrategy.EAGER : PageLoadStrategy.NORMAL;
+    }
+}
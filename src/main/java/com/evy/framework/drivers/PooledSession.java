@@ -0,0 +1,48 @@
+package com.evy.framework.drivers;
+
+import com.evy.framework.constants.BrowserType;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * A browser session owned by the {@link DriverPool}.
+ * <p>
+ * Tracks how often the session has been leased and whether it has hit an
+ * infrastructure error, so the pool can decide to reuse or recycle it.
+ * </p>
+ */
+final class PooledSession {
+
+    private final WebDriver driver;
+    private final BrowserType browserType;
+    private int uses;
+    private volatile boolean broken;
+
+    PooledSession(WebDriver driver, BrowserType browserType) {
+        this.driver = driver;
+        this.browserType = browserType;
+    }
+
+    WebDriver driver() {
+        return driver;
+    }
+
+    BrowserType browserType() {
+        return browserType;
+    }
+
+    int uses() {
+        return uses;
+    }
+
+    void markLeased() {
+        uses++;
+    }
+
+    boolean isBroken() {
+        return broken;
+    }
+
+    void markBroken() {
+        broken = true;
+    }
+}
@@ -0,0 +1,241 @@
+package com.evy.framework.drivers;
+
+import com.evy.framework.config.ConfigManager;
+import com.evy.framework.constants.BrowserType;
+import com.evy.framework.utils.LoggerUtils;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Copy-on-write browser profile templates for Chromium based browsers.
+ * <p>
+ * A template profile is built once per browser type by visiting the configured URL, so its HTTP cache
+ * already holds the storefront's scripts and stylesheets. Every session then starts from its own clone of
+ * the template, which is deleted once the session has quit. Clones use reflinks where the file system
+ * supports them and fall back to a plain copy. Hardlinks are not used because Chromium rewrites cache
+ * files in place, which would leak changes back into the template.
+ * </p>
+ */
+final class ProfileTemplates {
+
+    private static final Path BASE_DIR = Paths.get(System.getProperty("java.io.tmpdir"),
+            "evy-profiles-" + ProcessHandle.current().pid());
+
+    /**
+     * Profile entries holding cookies, storage and session state. They are removed from the template
+     * so that sessions only share the HTTP cache.
+     */
+    private static final List<String> STATEFUL_ENTRIES = List.of(
+            "SingletonLock", "SingletonSocket", "SingletonCookie",
+            "Default/Cookies", "Default/Cookies-journal", "Default/Network/Cookies", "Default/Network/Cookies-journal",
+            "Default/Local Storage", "Default/Session Storage", "Default/Sessions", "Default/IndexedDB",
+            "Default/Service Worker");
+
+    private static final Map<BrowserType, Path> TEMPLATES = new EnumMap<>(BrowserType.class);
+    private static final Map<WebDriver, Path> CLONES = new ConcurrentHashMap<>();
+    private static volatile boolean unavailable;
+
+    private ProfileTemplates() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Creates a fresh clone of the template profile for the specified browser type.
+     * <p>
+     * The template is built on first use with the given session starter, which must open a session
+     * using the profile directory it is passed.
+     * </p>
+     *
+     * @param browserType    the type of browser
+     * @param sessionStarter starts a session on a given profile directory
+     * @return the clone directory, or empty if templates are disabled or the template cannot be built
+     */
+    static Optional<Path> cloneFor(BrowserType browserType, Function<Path, WebDriver> sessionStarter) {
+        if (!ConfigManager.get().profileTemplateEnabled() || unavailable) {
+            return Optional.empty();
+        }
+        Path template;
+        try {
+            template = template(browserType, sessionStarter);
+        } catch (IOException | RuntimeException e) {
+            unavailable = true;
+            LoggerUtils.error(ProfileTemplates.class, "Failed to build " + browserType + " profile template, using empty profiles for this run", e);
+            return Optional.empty();
+        }
+        try {
+            Path clone = Files.createTempDirectory(BASE_DIR, browserType.name().toLowerCase() + "-session-");
+            copy(template, clone);
+            return Optional.of(clone);
+        } catch (IOException | RuntimeException e) {
+            LoggerUtils.error(ProfileTemplates.class, "Failed to clone " + browserType + " profile template, using an empty profile", e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Associates a clone directory with the session that uses it.
+     *
+     * @param driver the session
+     * @param clone  the clone directory
+     */
+    static void track(WebDriver driver, Path clone) {
+        CLONES.put(driver, clone);
+    }
+
+    /**
+     * Deletes the clone directory of a session that has quit.
+     *
+     * @param driver the session
+     */
+    static void release(WebDriver driver) {
+        Path clone = CLONES.remove(driver);
+        if (clone != null) {
+            delete(clone);
+        }
+    }
+
+    /**
+     * Deletes all templates and any clones still on disk.
+     */
+    static synchronized void deleteAll() {
+        CLONES.clear();
+        TEMPLATES.clear();
+        delete(BASE_DIR);
+    }
+
+    /**
+     * Deletes a directory tree, logging rather than failing on errors.
+     *
+     * @param dir the directory to delete
+     */
+    static void delete(Path dir) {
+        if (!Files.exists(dir)) {
+            return;
+        }
+        try {
+            Files.walkFileTree(dir, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                    Files.deleteIfExists(file);
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult postVisitDirectory(Path directory, IOException e) throws IOException {
+                    Files.deleteIfExists(directory);
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            LoggerUtils.error(ProfileTemplates.class, "Failed to delete profile directory " + dir, e);
+        }
+    }
+
+    private static synchronized Path template(BrowserType browserType, Function<Path, WebDriver> sessionStarter) throws IOException {
+        Path template = TEMPLATES.get(browserType);
+        if (template != null) {
+            return template;
+        }
+        template = Files.createDirectories(BASE_DIR.resolve(browserType.name().toLowerCase() + "-template"));
+        long start = System.nanoTime();
+        WebDriver driver = sessionStarter.apply(template);
+        try {
+            driver.get(ConfigManager.get().url());
+            waitForResourcesToSettle(driver);
+        } finally {
+            driver.quit();
+        }
+        for (String entry : STATEFUL_ENTRIES) {
+            delete(template.resolve(entry));
+        }
+        TEMPLATES.put(browserType, template);
+        LoggerUtils.info(ProfileTemplates.class, browserType + " profile template built in "
+                + Duration.ofNanos(System.nanoTime() - start).toMillis() + " ms");
+        return template;
+    }
+
+    /**
+     * Waits until the page stops requesting resources, so lazily loaded scripts also land in the cache.
+     *
+     * @param driver the template session
+     */
+    private static void waitForResourcesToSettle(WebDriver driver) {
+        JavascriptExecutor js = (JavascriptExecutor) driver;
+        long[] lastCount = {-1};
+        new WebDriverWait(driver, Duration.ofSeconds(ConfigManager.get().pageLoadTime()), Duration.ofMillis(500))
+                .until(d -> {
+                    long count = ((Number) js.executeScript("return performance.getEntriesByType('resource').length;")).longValue();
+                    boolean settled = count == lastCount[0];
+                    lastCount[0] = count;
+                    return settled;
+                });
+    }
+
+    private static void copy(Path source, Path target) throws IOException {
+        if (reflinkCopy(source, target)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(source)) {
+            paths.forEach(path -> {
+                Path destination = target.resolve(source.relativize(path).toString());
+                try {
+                    if (Files.isDirectory(path)) {
+                        Files.createDirectories(destination);
+                    } else {
+                        Files.copy(path, destination, StandardCopyOption.REPLACE_EXISTING);
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+
+    /**
+     * Clones a directory with the system copy command, which uses reflinks (copy-on-write extents)
+     * where the file system supports them.
+     *
+     * @return true if the copy succeeded
+     */
+    private static boolean reflinkCopy(Path source, Path target) {
+        String os = System.getProperty("os.name").toLowerCase();
+        List<String> command;
+        if (os.contains("linux")) {
+            command = List.of("cp", "-a", "--reflink=auto", source + "/.", target.toString());
+        } else if (os.contains("mac")) {
+            command = List.of("cp", "-Rc", source + "/.", target.toString());
+        } else {
+            return false;
+        }
+        try {
+            Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+            process.getInputStream().transferTo(OutputStream.nullOutputStream());
+            return process.waitFor() == 0;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
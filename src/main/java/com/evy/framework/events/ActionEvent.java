@@ -0,0 +1,65 @@
+package com.evy.framework.events;
+
+import com.evy.framework.constants.ActionType;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Registered;
+
+/**
+ * Flight Recorder event for one page action run through {@link com.evy.framework.utils.ActionUtils},
+ * including its retries.
+ */
+@Name("com.evy.framework.Action")
+@Label("Page Action")
+@Category({"EVY Framework", "Actions"})
+@Description("A page action, including its retries")
+@Registered(false)
+public final class ActionEvent extends Event {
+
+    @Label("Page")
+    private String page;
+
+    @Label("Action")
+    private String action;
+
+    @Label("Element")
+    private String element;
+
+    @Label("Attempts")
+    private int attempts;
+
+    @Label("Outcome")
+    private String outcome;
+
+    @Label("Nested")
+    @Description("Whether the action ran inside another action")
+    private boolean nested;
+
+    ActionEvent() {}
+
+    /**
+     * Ends the action and commits the event if it is being recorded.
+     *
+     * @param page     the page class the action ran on
+     * @param action   the type of action
+     * @param element  the name of the element acted on
+     * @param attempts the number of attempts made
+     * @param failed   true if the action failed
+     * @param nested   true if the action ran inside another action
+     */
+    public void complete(Class<?> page, ActionType action, String element, int attempts, boolean failed, boolean nested) {
+        end();
+        if (shouldCommit()) {
+            this.page = page.getSimpleName();
+            this.action = action.name();
+            this.element = element;
+            this.attempts = attempts;
+            this.outcome = failed ? "failure" : "success";
+            this.nested = nested;
+            commit();
+        }
+    }
+}
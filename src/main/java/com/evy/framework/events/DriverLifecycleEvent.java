@@ -0,0 +1,55 @@
+package com.evy.framework.events;
+
+import com.evy.framework.constants.BrowserType;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Registered;
+
+/**
+ * Flight Recorder event for leasing a browser session to a test or releasing it, through
+ * {@link com.evy.framework.drivers.Driver}.
+ */
+@Name("com.evy.framework.DriverLifecycle")
+@Label("Driver Lifecycle")
+@Category({"EVY Framework", "Driver"})
+@Description("A browser session leased by or released from a test thread")
+@Registered(false)
+public final class DriverLifecycleEvent extends Event {
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Browser")
+    private String browser;
+
+    @Label("Session Use")
+    @Description("How many times the session has been leased, including this lease")
+    private int sessionUse;
+
+    @Label("Success")
+    private boolean success;
+
+    DriverLifecycleEvent() {}
+
+    /**
+     * Ends the operation and commits the event if it is being recorded.
+     *
+     * @param operation  the operation, {@code init} or {@code quit}
+     * @param browser    the browser type of the session
+     * @param sessionUse the lease count of the session, or 0 if unknown
+     * @param success    true if the operation completed
+     */
+    public void complete(String operation, BrowserType browser, int sessionUse, boolean success) {
+        end();
+        if (shouldCommit()) {
+            this.operation = operation;
+            this.browser = String.valueOf(browser);
+            this.sessionUse = sessionUse;
+            this.success = success;
+            commit();
+        }
+    }
+}
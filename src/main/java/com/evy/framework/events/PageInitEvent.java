@@ -0,0 +1,37 @@
+package com.evy.framework.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Registered;
+
+/**
+ * Flight Recorder event for the {@code PageFactory} element initialization of a page object.
+ */
+@Name("com.evy.framework.PageInit")
+@Label("Page Init")
+@Category({"EVY Framework", "Pages"})
+@Description("PageFactory element initialization of a page object")
+@Registered(false)
+public final class PageInitEvent extends Event {
+
+    @Label("Page")
+    private String page;
+
+    PageInitEvent() {}
+
+    /**
+     * Ends the initialization and commits the event if it is being recorded.
+     *
+     * @param page the page class that was initialized
+     */
+    public void complete(Class<?> page) {
+        end();
+        if (shouldCommit()) {
+            this.page = page.getSimpleName();
+            commit();
+        }
+    }
+}
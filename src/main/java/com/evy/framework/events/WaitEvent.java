@@ -0,0 +1,57 @@
+package com.evy.framework.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Registered;
+import jdk.jfr.Timespan;
+
+import java.time.Duration;
+
+/**
+ * Flight Recorder event for one wait run through {@link com.evy.framework.utils.WaitUtils}.
+ */
+@Name("com.evy.framework.Wait")
+@Label("Wait")
+@Category({"EVY Framework", "Waits"})
+@Description("A wait for an element or condition")
+@Registered(false)
+public final class WaitEvent extends Event {
+
+    @Label("Name")
+    private String name;
+
+    @Label("Mode")
+    @Description("Whether the wait polled from the test or waited inside the browser")
+    private String mode;
+
+    @Label("Timeout")
+    @Timespan(Timespan.MILLISECONDS)
+    private long timeout;
+
+    @Label("Satisfied")
+    private boolean satisfied;
+
+    WaitEvent() {}
+
+    /**
+     * Ends the wait and commits the event if it is being recorded.
+     *
+     * @param name      the name of the element or condition waited for
+     * @param inBrowser true if the wait ran inside the browser
+     * @param timeout   the maximum time the wait was allowed
+     * @param satisfied true if the condition was met in time
+     */
+    public void complete(String name, boolean inBrowser, Duration timeout, boolean satisfied) {
+        end();
+        if (shouldCommit()) {
+            this.name = name;
+            this.mode = inBrowser ? "in-browser" : "poll";
+            this.timeout = timeout.toMillis();
+            this.satisfied = satisfied;
+            commit();
+        }
+    }
+}
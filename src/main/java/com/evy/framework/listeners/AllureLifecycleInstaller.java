@@ -0,0 +1,19 @@
+package com.evy.framework.listeners;
+
+import com.evy.framework.utils.AllureReporter;
+import org.testng.ITestNGListener;
+
+/**
+ * TestNG listener that installs the background-writing Allure lifecycle before Allure's own listener starts.
+ * <p>
+ * Registered through {@code META-INF/services/org.testng.ITestNGListener}. The project's classes come before the
+ * allure-testng jar on the test classpath, so TestNG creates this listener first and Allure's listener picks up
+ * the installed lifecycle.
+ * </p>
+ */
+public final class AllureLifecycleInstaller implements ITestNGListener {
+
+    static {
+        AllureReporter.installBackgroundWriter();
+    }
+}
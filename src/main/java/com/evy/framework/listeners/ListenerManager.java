@@ -1,58 +1,275 @@
 package com.evy.framework.listeners;
 
+import com.evy.framework.config.ConfigManager;
+import com.evy.framework.constants.CommandBudgetMode;
+import com.evy.framework.drivers.CommandCount;
 import com.evy.framework.drivers.Driver;
+import com.evy.framework.utils.ActionMetrics;
+import com.evy.framework.utils.ActionUtils;
+import com.evy.framework.utils.AllureReporter;
+import com.evy.framework.utils.ArtifactStore;
+import com.evy.framework.utils.DomSnapshot;
+import com.evy.framework.utils.LogBuffer;
 import com.evy.framework.utils.LoggerUtils;
+import com.evy.framework.utils.ScreenshotPipeline;
+import com.evy.framework.utils.StepScreenshots;
+import com.evy.framework.utils.WaitUtils;
 import io.qameta.allure.Allure;
+import io.qameta.allure.model.Status;
 import org.openqa.selenium.OutputType;
 import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestContext;
 import org.testng.ITestResult;
 import org.testng.TestListenerAdapter;
 
-import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 
 /**
  * TestNG listener for managing test execution events and integrating with Allure reporting.
  * Handles test start, success, and failure events, including capturing and attaching screenshots on failure.
  */
-public final class ListenerManager extends TestListenerAdapter {
+public final class ListenerManager extends TestListenerAdapter implements IInvokedMethodListener {
+
+    private static final String LOG_BUFFER_ATTRIBUTE = "evy.logBuffer";
+
+    /**
+     * Starts buffering Allure steps for the method about to run.
+     *
+     * @param method     the method about to be invoked
+     * @param testResult TestNG test result object
+     */
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        AllureReporter.beginMethod(method.isTestMethod());
+    }
+
+    /**
+     * Publishes the WebDriver commands sent by a test method and checks them against the command budget, and
+     * reports the outcome of the test, then hands the buffered Allure steps of the method to Allure in one batch.
+     * <p>
+     * TestNG runs this hook before any {@code onTest*} listener, so the steps and failure attachments reach the
+     * test case before Allure's own listener stops it.
+     * </p>
+     *
+     * @param method     the method that was invoked
+     * @param testResult TestNG test result object
+     */
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (method.isTestMethod()) {
+            checkCommandBudget(testResult);
+            reportOutcome(testResult);
+        }
+        AllureReporter.endMethod();
+    }
+
+    /**
+     * Starts warming up browser sessions as soon as the test context begins.
+     *
+     * @param context TestNG test context
+     */
+    @Override
+    public void onStart(ITestContext context) {
+        super.onStart(context);
+        Driver.getInstance().warmUp(ConfigManager.get().browserType());
+    }
+
+    /**
+     * Logs browser session telemetry, wait times and retry statistics, exports per-action latency metrics
+     * and per-test WebDriver command counts, and waits for pending Allure attachments and screenshots once the test context has finished.
+     *
+     * @param context TestNG test context
+     */
+    @Override
+    public void onFinish(ITestContext context) {
+        Driver.getInstance().logSessionTelemetry();
+        LoggerUtils.info(getClass(), WaitUtils.summary());
+        LoggerUtils.info(getClass(), ActionUtils.retrySummary());
+        exportActionMetrics();
+        exportCommandCounts();
+        AllureReporter.flushWrites();
+        ScreenshotPipeline.flush();
+        LoggerUtils.info(getClass(), ScreenshotPipeline.summary());
+    }
 
     /**
-     * Sets Allure description and logs test start information.
+     * Sets Allure description, resets the retry budget of the test thread, starts the test's log and
+     * step screenshot buffers and WebDriver command count, and logs test start information.
      *
      * @param result TestNG test result object containing method details
      */
     @Override
     public void onTestStart(ITestResult result) {
         Allure.description(result.getMethod().getDescription());
+        ActionUtils.resetRetryBudget();
+        StepScreenshots.start();
+        Driver.getInstance().startCommandCount();
+        LogBuffer logBuffer = LoggerUtils.startTestBuffer();
+        if (logBuffer != null) {
+            result.setAttribute(LOG_BUFFER_ATTRIBUTE, logBuffer);
+        }
         LoggerUtils.info(getClass(),"Test started: " + result.getMethod().getMethodName()+ "Test Start");
     }
 
     /**
-     * Adds Allure step and logs test success information.
+     * Discards the test's buffered logs and step screenshots, and logs test success information.
      *
      * @param result TestNG test result object containing method details
      */
     @Override
     public void onTestSuccess(ITestResult result) {
-        Allure.step("Test passed: " + result.getMethod().getMethodName());
+        discardTestBuffers(result);
         LoggerUtils.info(getClass(),"Test passed: " + result.getMethod().getMethodName()+ "Test Success");
     }
 
     /**
-     * Adds Allure step, logs test failure information, and attaches screenshot on failure.
+     * Flags the session for recycling if the failure came from the browser infrastructure, and discards
+     * whatever is left of the test's buffers. The failure itself is reported by {@link #afterInvocation}.
      *
      * @param result TestNG test result object containing method details
      */
     @Override
     public void onTestFailure(ITestResult result) {
-        Allure.step("Test failed: " + result.getMethod().getMethodName());
-        LoggerUtils.error(getClass(),"Test failed: " + result.getMethod().getMethodName()+ "Test Failure",null);
-        attachScreenshotToAllure();
+        Driver.getInstance().reportFailure(result.getThrowable());
+        discardTestBuffers(result);
+    }
+
+    /**
+     * Discards the buffered logs and step screenshots of a skipped test.
+     *
+     * @param result TestNG test result object containing method details
+     */
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        discardTestBuffers(result);
+    }
+
+    /**
+     * Adds an Allure step for the outcome of a test. For a failed test, also logs the failure and attaches the
+     * step screenshots, a final screenshot and DOM snapshot if enabled, and the test's buffered logs.
+     *
+     * @param result TestNG test result object containing method details
+     */
+    private void reportOutcome(ITestResult result) {
+        String methodName = result.getMethod().getMethodName();
+        if (result.getStatus() == ITestResult.SUCCESS) {
+            AllureReporter.step("Test passed: " + methodName, Status.PASSED);
+        } else if (result.getStatus() == ITestResult.FAILURE) {
+            AllureReporter.step("Test failed: " + methodName, Status.FAILED);
+            LoggerUtils.error(getClass(),"Test failed: " + methodName + "Test Failure",null);
+            StepScreenshots.attachOnFailure();
+            if (ConfigManager.get().screenshotOnFailure()) {
+                attachScreenshotToAllure();
+            }
+            if (ConfigManager.get().domSnapshotOnFailure()) {
+                attachDomSnapshotToAllure(result);
+            }
+            flushTestLog(result);
+        }
+    }
+
+    private void discardTestBuffers(ITestResult result) {
+        StepScreenshots.discard();
+        LoggerUtils.endTestBuffer();
+        result.removeAttribute(LOG_BUFFER_ATTRIBUTE);
+    }
+
+    /**
+     * Writes the buffered logs of a failed test to the test log directory through the {@link ArtifactStore}
+     * and attaches them to Allure.
+     * Logs error if the file cannot be written.
+     *
+     * @param result TestNG test result object containing method details
+     */
+    private void flushTestLog(ITestResult result) {
+        LoggerUtils.endTestBuffer();
+        if (!(result.removeAttribute(LOG_BUFFER_ATTRIBUTE) instanceof LogBuffer buffer)) {
+            return;
+        }
+        byte[] log = buffer.render().getBytes(StandardCharsets.UTF_8);
+        AllureReporter.attach("Test log", "text/plain", ".log", log);
+        String name = testName(result);
+        Path file = Paths.get(ConfigManager.get().testLogDir(),
+                name + "-" + result.getStartMillis() + ".log");
+        try {
+            ArtifactStore.save(log, name + " log", "text/plain", file);
+            LoggerUtils.info(getClass(), "Test log written to " + file.toAbsolutePath());
+        } catch (IOException e) {
+            LoggerUtils.error(getClass(), "Failed to write test log to " + file, e);
+        }
+    }
+
+    private static String testName(ITestResult result) {
+        return result.getTestClass().getRealClass().getSimpleName() + "." + result.getMethod().getMethodName();
+    }
+
+    /**
+     * Attaches the WebDriver commands sent by the test to Allure and checks them against the configured
+     * per-test budget. An overrun is logged and reported as a broken step, or fails a passing test
+     * when the budget mode is {@link CommandBudgetMode#FAIL}.
+     *
+     * @param result TestNG test result object containing method details
+     */
+    private void checkCommandBudget(ITestResult result) {
+        String name = result.getTestClass().getRealClass().getSimpleName() + "." + result.getMethod().getMethodName();
+        CommandCount commands = Driver.getInstance().stopCommandCount(name);
+        if (commands == null) {
+            return;
+        }
+        AllureReporter.attach("WebDriver commands (" + commands.total() + ")", "text/plain", ".txt",
+                commands.render().getBytes(StandardCharsets.UTF_8));
+        int budget = ConfigManager.get().commandBudgetPerTest();
+        if (budget <= 0 || commands.total() <= budget) {
+            return;
+        }
+        String msg = name + " sent " + commands.total() + " WebDriver commands, over its budget of " + budget;
+        if (ConfigManager.get().commandBudgetMode() == CommandBudgetMode.FAIL && result.isSuccess()) {
+            AllureReporter.step(msg, Status.FAILED);
+            result.setStatus(ITestResult.FAILURE);
+            result.setThrowable(new AssertionError(msg));
+        } else {
+            AllureReporter.step(msg, Status.BROKEN);
+            LoggerUtils.error(getClass(), msg, null);
+        }
+    }
+
+    /**
+     * Writes the WebDriver commands sent by each test to the configured metrics directory.
+     * Logs error if the report cannot be written.
+     */
+    private void exportCommandCounts() {
+        Path dir = Paths.get(ConfigManager.get().metricsDir());
+        try {
+            Driver.getInstance().exportCommandCounts(dir);
+            LoggerUtils.info(getClass(), "WebDriver command counts written to " + dir.toAbsolutePath());
+        } catch (IOException e) {
+            LoggerUtils.error(getClass(), "Failed to write WebDriver command counts to " + dir, e);
+        }
+    }
+
+    /**
+     * Writes the per-action latency metrics of the run to the configured metrics directory.
+     * Logs error if the report cannot be written.
+     */
+    private void exportActionMetrics() {
+        Path dir = Paths.get(ConfigManager.get().metricsDir());
+        try {
+            ActionMetrics.export(dir);
+            LoggerUtils.info(getClass(), "Action metrics written to " + dir.toAbsolutePath());
+        } catch (IOException e) {
+            LoggerUtils.error(getClass(), "Failed to write action metrics to " + dir, e);
+        }
     }
 
     /**
-     * Captures a screenshot using WebDriver if supported, and attaches it to Allure report.
+     * Captures a screenshot using WebDriver if supported, and hands it to the {@link ScreenshotPipeline}
+     * to be encoded and attached to the Allure report off the test thread.
      * Logs error if screenshot capture fails.
      */
     private void attachScreenshotToAllure() {
@@ -60,7 +277,7 @@ public final class ListenerManager extends TestListenerAdapter {
             WebDriver driver = Driver.getInstance().getDriver();
             if (driver instanceof TakesScreenshot) {
                 byte[] screenshot = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
-                Allure.addAttachment("Screenshot", new ByteArrayInputStream(screenshot));
+                ScreenshotPipeline.attach("Screenshot", screenshot);
             } else {
                 LoggerUtils.error(getClass(),"Driver does not support taking screenshots Screenshot Error",null);
             }
@@ -68,4 +285,25 @@ public final class ListenerManager extends TestListenerAdapter {
             LoggerUtils.error(getClass(), "Failed to capture screenshot: " + e.getMessage()+ "Screenshot Error",e);
         }
     }
+
+    /**
+     * Captures a {@link DomSnapshot} of the current page in one script call and attaches it to Allure report
+     * as viewable HTML. The background attachment writer also compresses the snapshot into the test log
+     * directory, whether or not the artifact store is enabled, so failures can be searched with {@code zgrep}.
+     * Logs error if snapshot capture fails.
+     *
+     * @param result TestNG test result object containing method details
+     */
+    private void attachDomSnapshotToAllure(ITestResult result) {
+        try {
+            WebDriver driver = Driver.getInstance().getDriver();
+            if (driver != null) {
+                byte[] snapshot = DomSnapshot.capture(driver).getBytes(StandardCharsets.UTF_8);
+                Path file = Paths.get(ConfigManager.get().testLogDir(), testName(result) + "-" + result.getStartMillis() + ".dom.html.gz");
+                AllureReporter.attach("DOM snapshot", "text/html", ".html", snapshot, file);
+            }
+        } catch (Exception e) {
+            LoggerUtils.error(getClass(), "Failed to capture DOM snapshot: " + e.getMessage(), e);
+        }
+    }
 }
\ No newline at end of file
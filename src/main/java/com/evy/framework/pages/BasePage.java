@@ -1,14 +1,22 @@
 package com.evy.framework.pages;
 
+import com.evy.framework.constants.ActionType;
 import com.evy.framework.drivers.Driver;
+import com.evy.framework.events.FrameworkEvents;
+import com.evy.framework.events.PageInitEvent;
 import com.evy.framework.utils.ActionUtils;
 import com.evy.framework.utils.LoggerUtils;
+import com.evy.framework.utils.WaitUtils;
 import org.openqa.selenium.*;
 import org.openqa.selenium.interactions.Actions;
 import org.openqa.selenium.support.PageFactory;
 import org.openqa.selenium.support.ui.*;
 
-import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
 /**
  * Base class for all page objects in the framework.
@@ -19,14 +27,58 @@ import java.time.Duration;
  */
 public class BasePage {
 
+    private static final String READ_PAGE_SCRIPT =
+            ScriptLocators.FIND_FUNCTION +
+            "function visible(el) {" +
+            "  var style = window.getComputedStyle(el), rect = el.getBoundingClientRect();" +
+            "  return style.visibility !== 'hidden' && style.display !== 'none' && rect.width > 0 && rect.height > 0;" +
+            "}" +
+            "var values = arguments[0].map(function (read) {" +
+            "  var el = find(read.using, read.value);" +
+            "  if (read.kind === 'displayed') { return !!el && visible(el); }" +
+            "  if (read.kind === 'attribute') {" +
+            "    if (!el) { return null; }" +
+            "    var property = el[read.attribute];" +
+            "    return typeof property === 'boolean' ? (property ? 'true' : null) : el.getAttribute(read.attribute);" +
+            "  }" +
+            "  return el && visible(el) ? el.innerText.trim() : '';" +
+            "});" +
+            "return {url: location.href, title: document.title, values: values};";
+
+    private static final String FILL_FORM_SCRIPT =
+            ScriptLocators.FIND_FUNCTION +
+            "function read(el) {" +
+            "  if (el.tagName !== 'SELECT') { return el.value; }" +
+            "  return el.selectedIndex >= 0 ? el.options[el.selectedIndex].text.trim() : '';" +
+            "}" +
+            "var fields = arguments[0];" +
+            "fields.forEach(function (field) {" +
+            "  var el = find(field.using, field.value);" +
+            "  if (!el) { return; }" +
+            "  if (el.tagName === 'SELECT') {" +
+            "    var option = Array.from(el.options).find(function (o) { return o.text.trim() === field.text; });" +
+            "    if (option) { el.value = option.value; }" +
+            "  } else {" +
+            "    var descriptor = Object.getOwnPropertyDescriptor(Object.getPrototypeOf(el), 'value');" +
+            "    if (descriptor && descriptor.set) { descriptor.set.call(el, field.text); } else { el.value = field.text; }" +
+            "  }" +
+            "  ['input', 'change', 'blur'].forEach(function (type) { el.dispatchEvent(new Event(type, {bubbles: true})); });" +
+            "});" +
+            "return fields.map(function (field) {" +
+            "  var el = find(field.using, field.value);" +
+            "  return el ? read(el) : null;" +
+            "});";
+
     protected final WebDriver driver;
 
     /**
-     * Initializes the WebDriver instance and initializes PageFactory elements.
+     * Initializes the WebDriver instance and initializes PageFactory elements, timed as a Flight Recorder event when enabled.
      */
     public BasePage(){
         this.driver = Driver.getInstance().getDriver();
+        PageInitEvent event = FrameworkEvents.beginPageInit();
         PageFactory.initElements(this.driver, this);
+        event.complete(getClass());
     }
 
     /**
@@ -40,13 +92,31 @@ public class BasePage {
      * @param elementName the name of the element for logging purposes
      */
     protected void sendKeys(WebElement element, String value, String elementName) {
-        ActionUtils.execVoidFunction(getClass(), () -> {
+        ActionUtils.execVoidFunction(getClass(), ActionType.SEND_KEYS, elementName, () -> {
             WebElement webElement = waitForElementToBeVisible(element, elementName);
             webElement.clear();
             webElement.sendKeys(value);
         }, "Sent keys to " + elementName + ":" + value, "Failed to send keys to " + elementName);
     }
 
+    /**
+     * Sends keys to the element matching a locator.
+     * <p>
+     * The element is resolved when the action runs, waiting explicitly for it to be visible.
+     * </p>
+     *
+     * @param locator     the locator of the element to send keys to
+     * @param value       the value to send
+     * @param elementName the name of the element for logging purposes
+     */
+    protected void sendKeys(By locator, String value, String elementName) {
+        ActionUtils.execVoidFunction(getClass(), ActionType.SEND_KEYS, elementName, () -> {
+            WebElement webElement = waitForElementToBeVisible(locator, elementName);
+            webElement.clear();
+            webElement.sendKeys(value);
+        }, "Sent keys to " + elementName + ":" + value, "Failed to send keys to " + elementName);
+    }
+
     /**
      * Clicks on a specified WebElement using JavaScript.
      * <p>
@@ -57,13 +127,30 @@ public class BasePage {
      * @param elementName the name of the element for logging purposes
      */
     protected void click(WebElement element, String elementName) {
-        ActionUtils.execVoidFunction(getClass(), () -> {
+        ActionUtils.execVoidFunction(getClass(), ActionType.CLICK, elementName, () -> {
             WebElement webElement = waitForElementToBeVisible(element, elementName);
             JavascriptExecutor jsExecutor = (JavascriptExecutor) driver;
             jsExecutor.executeScript("arguments[0].click();", webElement);
         }, "Clicked on " + elementName, "Failed to click on " + elementName);
     }
 
+    /**
+     * Clicks on the element matching a locator using JavaScript.
+     * <p>
+     * The element is resolved when the action runs, waiting explicitly for it to be visible.
+     * </p>
+     *
+     * @param locator     the locator of the element to click on
+     * @param elementName the name of the element for logging purposes
+     */
+    protected void click(By locator, String elementName) {
+        ActionUtils.execVoidFunction(getClass(), ActionType.CLICK, elementName, () -> {
+            WebElement webElement = waitForElementToBeVisible(locator, elementName);
+            JavascriptExecutor jsExecutor = (JavascriptExecutor) driver;
+            jsExecutor.executeScript("arguments[0].click();", webElement);
+        }, "Clicked on " + elementName, "Failed to click on " + elementName);
+    }
+
     /**
      * Retrieves the text from a specified WebElement.
      * <p>
@@ -75,10 +162,27 @@ public class BasePage {
      * @return the text content of the WebElement
      */
     protected String getText(WebElement element, String elementName) {
-        return ActionUtils.execStringFunction(getClass(), () -> {
+        return ActionUtils.execStringFunction(getClass(), ActionType.GET_TEXT, elementName, () -> {
             WebElement webElement = waitForElementToBeVisible(element, elementName);
             return webElement.getText().trim();
-        }, "Successfully retrieved text from " + elementName + ":" + element.getText(), "Failed to retrieve text from " + elementName);
+        }, text -> "Successfully retrieved text from " + elementName + ":" + text, () -> "Failed to retrieve text from " + elementName);
+    }
+
+    /**
+     * Retrieves the text from the element matching a locator.
+     * <p>
+     * The element is resolved when the action runs, waiting explicitly for it to be visible.
+     * </p>
+     *
+     * @param locator     the locator of the element to retrieve text from
+     * @param elementName the name of the element for logging purposes
+     * @return the text content of the element
+     */
+    protected String getText(By locator, String elementName) {
+        return ActionUtils.execStringFunction(getClass(), ActionType.GET_TEXT, elementName, () -> {
+            WebElement webElement = waitForElementToBeVisible(locator, elementName);
+            return webElement.getText().trim();
+        }, text -> "Successfully retrieved text from " + elementName + ":" + text, () -> "Failed to retrieve text from " + elementName);
     }
 
     /**
@@ -92,7 +196,25 @@ public class BasePage {
      * @return true if the element is displayed, false otherwise
      */
     protected boolean isDisplayed(WebElement element, String elementName) {
-        return ActionUtils.execBooleanFunction(getClass(), element::isDisplayed, elementName + " is displayed", elementName + " is not displayed");
+        return ActionUtils.execBooleanFunction(getClass(), ActionType.IS_DISPLAYED, elementName, element::isDisplayed,
+                displayed -> elementName + (displayed ? " is displayed" : " is not displayed"), () -> elementName + " is not displayed");
+    }
+
+    /**
+     * Checks if the element matching a locator is displayed right now.
+     * <p>
+     * Does not wait: a missing element returns false straight away. Use {@link #waitForAnyVisible(String, By...)}
+     * first when the element may still be rendering.
+     * </p>
+     *
+     * @param locator     the locator of the element to check
+     * @param elementName the name of the element for logging purposes
+     * @return true if the element is present and displayed, false otherwise
+     */
+    protected boolean isDisplayed(By locator, String elementName) {
+        return ActionUtils.execBooleanFunction(getClass(), ActionType.IS_DISPLAYED, elementName,
+                () -> driver.findElements(locator).stream().anyMatch(WebElement::isDisplayed),
+                displayed -> elementName + (displayed ? " is displayed" : " is not displayed"), () -> elementName + " is not displayed");
     }
 
     /**
@@ -105,12 +227,43 @@ public class BasePage {
      * @param elementName the name of the element for logging purposes
      */
     protected void moveToElement(WebElement element, String elementName) {
-        ActionUtils.execVoidFunction(getClass(), () -> {
+        ActionUtils.execVoidFunction(getClass(), ActionType.MOVE_TO, elementName, () -> {
             Actions actions = new Actions(driver);
             actions.moveToElement(element).perform();
         }, "Moved to " + elementName, "Failed to move to " + elementName);
     }
 
+    /**
+     * Moves the mouse to the element matching a locator.
+     * <p>
+     * The element is resolved when the action runs, waiting explicitly for it to be visible.
+     * </p>
+     *
+     * @param locator     the locator of the element to move to
+     * @param elementName the name of the element for logging purposes
+     */
+    protected void moveToElement(By locator, String elementName) {
+        ActionUtils.execVoidFunction(getClass(), ActionType.MOVE_TO, elementName, () -> {
+            Actions actions = new Actions(driver);
+            actions.moveToElement(waitForElementToBeVisible(locator, elementName)).perform();
+        }, "Moved to " + elementName, "Failed to move to " + elementName);
+    }
+
+    /**
+     * Opens a URL directly and waits for an element of the new page to be visible.
+     *
+     * @param url               the URL to open
+     * @param elementToWait     the locator of an element that shows the page has loaded
+     * @param elementToWaitName the name of the element to wait for
+     * @param nextClassPage     the name of the next page class for logging purposes
+     */
+    protected void navigateTo(String url, By elementToWait, String elementToWaitName, String nextClassPage) {
+        ActionUtils.execVoidFunction(getClass(), ActionType.NAVIGATE, nextClassPage, () -> {
+            driver.get(url);
+            waitForElementToBeVisible(elementToWait, elementToWaitName);
+        }, "Navigated to " + nextClassPage + " at " + url, "Failed to navigate to " + nextClassPage + " at " + url);
+    }
+
     /**
      * Clicks on a WebElement and waits for the page title to match the expected title.
      * <p>
@@ -123,7 +276,7 @@ public class BasePage {
      * @param nextClassPage the name of the next page class for logging purposes
      */
     protected void clickWaitForTitleAndNavigate(WebElement element, String elementName, String pageTitle, String nextClassPage) {
-        ActionUtils.execVoidFunction(getClass(), () -> {
+        ActionUtils.execVoidFunction(getClass(), ActionType.NAVIGATE, elementName, () -> {
             click(element, elementName);
             waitForPageTitle(pageTitle);
         }, "Navigated to " + nextClassPage, "Failed to navigate to " + nextClassPage);
@@ -142,7 +295,7 @@ public class BasePage {
      * @param nextClassPage  the name of the next page class for logging purposes
      */
     protected void clickWaitForElementAndNavigate(WebElement element, String elementName, WebElement elementToWait, String elementToWaitName, String nextClassPage) {
-        ActionUtils.execVoidFunction(getClass(), () -> {
+        ActionUtils.execVoidFunction(getClass(), ActionType.NAVIGATE, elementName, () -> {
             click(element, elementName);
             waitForElementToBeVisible(elementToWait, elementToWaitName);
         }, "Navigated to " + nextClassPage, "Failed to navigate to " + nextClassPage);
@@ -159,21 +312,103 @@ public class BasePage {
      * @param elementName the name of the element for logging purposes
      */
     protected void selectByVisibleText(WebElement element, String value, String elementName) {
-        ActionUtils.execVoidFunction(getClass(), () -> {
+        ActionUtils.execVoidFunction(getClass(), ActionType.SELECT, elementName, () -> {
             WebElement webElement = waitForElementToBeVisible(element, elementName);
             Select select = new Select(webElement);
             select.selectByVisibleText(value);
         }, "Selected " + value + " from " + elementName + " dropdown", "Failed to select " + value + " from " + elementName + " dropdown");
     }
 
+    /**
+     * Selects an option by visible text from the dropdown matching a locator.
+     * <p>
+     * The element is resolved when the action runs, waiting explicitly for it to be visible.
+     * </p>
+     *
+     * @param locator     the locator of the dropdown
+     * @param value       the visible text of the option to select
+     * @param elementName the name of the element for logging purposes
+     */
+    protected void selectByVisibleText(By locator, String value, String elementName) {
+        ActionUtils.execVoidFunction(getClass(), ActionType.SELECT, elementName, () -> {
+            Select select = new Select(waitForElementToBeVisible(locator, elementName));
+            select.selectByVisibleText(value);
+        }, "Selected " + value + " from " + elementName + " dropdown", "Failed to select " + value + " from " + elementName + " dropdown");
+    }
+
     /**
      * Retrieves the current URL of the browser.
      *
      * @return the current URL
      */
     public String getCurrentUrl() {
-        return ActionUtils.execStringFunction(getClass(), driver::getCurrentUrl,
-                "Retrieved current URL: " + driver.getCurrentUrl(), "Failed to retrieve current URL");
+        return ActionUtils.execStringFunction(getClass(), ActionType.GET_URL, "current URL", driver::getCurrentUrl,
+                url -> "Retrieved current URL: " + url, () -> "Failed to retrieve current URL");
+    }
+
+    /**
+     * Fills several form fields in one script call and verifies the values they kept.
+     * <p>
+     * Waits once for the first field to be visible, then sets every field in order and fires the
+     * {@code input}, {@code change} and {@code blur} events that Knockout and form validation listen to.
+     * Dropdowns are set by the visible text of an option. The values are read back at the end of the same call.
+     * A missing field fails the action; a field that did not keep its value is retried by {@link ActionUtils}.
+     * </p>
+     *
+     * @param formName the name of the form for logging purposes
+     * @param fields   the locators of the fields and their values, in fill order
+     */
+    protected void fillForm(String formName, Map<By, String> fields) {
+        List<Map<String, Object>> arguments = new ArrayList<>();
+        fields.forEach((locator, value) -> {
+            Map<String, Object> field = ScriptLocators.toScript(locator);
+            field.put("text", value);
+            arguments.add(field);
+        });
+        ActionUtils.execVoidFunction(getClass(), ActionType.FILL_FORM, formName, () -> {
+            waitForElementToBeVisible(fields.keySet().iterator().next(), formName);
+            Object result = ((JavascriptExecutor) driver).executeScript(FILL_FORM_SCRIPT, arguments);
+            List<?> values = result instanceof List<?> list ? list : List.of();
+            List<String> mismatches = new ArrayList<>();
+            int i = 0;
+            for (Map.Entry<By, String> field : fields.entrySet()) {
+                Object value = i < values.size() ? values.get(i) : null;
+                if (value == null) {
+                    throw new NoSuchElementException("Form field not found: " + field.getKey());
+                }
+                if (!field.getValue().equals(value)) {
+                    mismatches.add(field.getKey() + " has '" + value + "'");
+                }
+                i++;
+            }
+            if (!mismatches.isEmpty()) {
+                throw new ElementNotInteractableException("Form fields did not keep their values: " + mismatches);
+            }
+        }, "Filled " + formName + " with " + fields.size() + " fields", "Failed to fill " + formName);
+    }
+
+    /**
+     * Reads the state of several elements, and the URL and title of the page, in one script call.
+     * <p>
+     * Does not wait: wait for the outcome to appear first, for example with {@link #waitForAnyVisible(String, By...)}.
+     * </p>
+     *
+     * @param query the element reads to run
+     * @return the snapshot of the page
+     */
+    protected PageSnapshot readPage(PageQuery query) {
+        return ActionUtils.execFunction(getClass(), ActionType.READ_PAGE, String.join(",", query.names()), () -> {
+            Object result = ((JavascriptExecutor) driver).executeScript(READ_PAGE_SCRIPT, query.reads());
+            if (!(result instanceof Map<?, ?> page) || !(page.get("values") instanceof List<?> read)) {
+                throw new IllegalStateException("Unexpected page read result: " + result);
+            }
+            List<String> names = query.names();
+            Map<String, Object> values = new HashMap<>();
+            for (int i = 0; i < names.size(); i++) {
+                values.put(names.get(i), read.get(i));
+            }
+            return new PageSnapshot(String.valueOf(page.get("url")), String.valueOf(page.get("title")), values);
+        }, snapshot -> "Read page state: " + snapshot, () -> "Failed to read page state: " + query.names());
     }
 
     /**
@@ -185,16 +420,43 @@ public class BasePage {
      * @param pageTitle the expected page title
      */
     private void waitForPageTitle(String pageTitle) {
-        ActionUtils.execVoidFunction(getClass(), () -> {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-            wait.until(ExpectedConditions.titleIs(pageTitle));
-        }, "Page title is correct: " + pageTitle, "Failed to wait for page title to be equal to " + pageTitle);
+        ActionUtils.execVoidFunction(getClass(), ActionType.WAIT, "page title", () ->
+                waitUntil(ExpectedConditions.titleIs(pageTitle), "page title " + pageTitle),
+                "Page title is correct: " + pageTitle, "Failed to wait for page title to be equal to " + pageTitle);
+    }
+
+    /**
+     * Waits until a condition is met, using the shared {@link WaitUtils} polling schedule.
+     *
+     * @param condition     the condition to wait for
+     * @param conditionName the name of the condition for wait time recording
+     * @param <T>           the condition result type
+     * @return the condition result
+     */
+    protected <T> T waitUntil(Function<WebDriver, T> condition, String conditionName) {
+        return WaitUtils.waitUntil(driver, condition, WaitUtils.defaultTimeout(), conditionName);
+    }
+
+    /**
+     * Waits inside the browser for an element matching a CSS selector to become visible.
+     * <p>
+     * Resolves through a MutationObserver in a single script call instead of polling.
+     * </p>
+     *
+     * @param cssSelector the CSS selector of the element
+     * @param elementName the name of the element for logging purposes
+     */
+    protected void waitForElementInBrowser(String cssSelector, String elementName) {
+        if (!WaitUtils.waitInBrowser(driver, cssSelector, WaitUtils.defaultTimeout(), elementName)) {
+            LoggerUtils.error(getClass(), elementName + " is not visible", null);
+            throw new RuntimeException("Error: Cannot locate " + elementName);
+        }
     }
 
     /**
      * Waits for a WebElement to be visible.
      * <p>
-     * Uses FluentWait to handle common exceptions and wait for the element's visibility.
+     * Uses {@link WaitUtils}, which ignores common exceptions and polls on an exponential schedule.
      * </p>
      *
      * @param element     the WebElement to wait for
@@ -203,18 +465,55 @@ public class BasePage {
      */
     protected WebElement waitForElementToBeVisible(WebElement element, String elementName) {
         try {
-            Wait<WebDriver> wait = new FluentWait<>(driver)
-                    .ignoring(StaleElementReferenceException.class)
-                    .ignoring(ElementNotInteractableException.class)
-                    .ignoring(NoSuchElementException.class)
-                    .withTimeout(Duration.ofSeconds(8))
-                    .pollingEvery(Duration.ofSeconds(1));
-
-            return wait.until(ExpectedConditions.visibilityOf(element));
+            return WaitUtils.waitForVisible(driver, element, WaitUtils.defaultTimeout(), elementName);
+        } catch (Exception e) {
+            LoggerUtils.error(getClass(), elementName + " is not visible", e);
+            throw new RuntimeException("Error: Cannot locate " + elementName, e);
+        }
+    }
 
+    /**
+     * Waits for the element matching a locator to be visible.
+     * <p>
+     * The element is looked up on every poll within the explicit wait timeout, so it does not rely on the implicit wait.
+     * </p>
+     *
+     * @param locator     the locator of the element to wait for
+     * @param elementName the name of the element for logging purposes
+     * @return the visible WebElement
+     */
+    protected WebElement waitForElementToBeVisible(By locator, String elementName) {
+        try {
+            return WaitUtils.waitForVisible(driver, locator, WaitUtils.defaultTimeout(), elementName);
         } catch (Exception e) {
             LoggerUtils.error(getClass(), elementName + " is not visible", e);
-            throw new RuntimeException("Error: Cannot locate " + elementName);
+            throw new RuntimeException("Error: Cannot locate " + elementName, e);
+        }
+    }
+
+    /**
+     * Waits once for any of several elements to be visible, for pages that can end in one of several outcomes.
+     * <p>
+     * Returns as soon as one outcome is visible, so checking the other outcomes afterwards costs no extra wait.
+     * </p>
+     *
+     * @param outcomeName the name of the outcome for logging purposes
+     * @param locators    the locators of the possible outcome elements
+     * @return the locator of the first visible element, or null if none became visible in time
+     */
+    protected By waitForAnyVisible(String outcomeName, By... locators) {
+        try {
+            return WaitUtils.waitUntil(driver, d -> {
+                for (By locator : locators) {
+                    if (d.findElements(locator).stream().anyMatch(WebElement::isDisplayed)) {
+                        return locator;
+                    }
+                }
+                return null;
+            }, WaitUtils.defaultTimeout(), outcomeName);
+        } catch (TimeoutException e) {
+            LoggerUtils.info(getClass(), "No " + outcomeName + " became visible");
+            return null;
         }
     }
 }
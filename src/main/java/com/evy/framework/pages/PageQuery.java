@@ -0,0 +1,96 @@
+package com.evy.framework.pages;
+
+import org.openqa.selenium.By;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Describes a set of element reads that {@link BasePage#readPage(PageQuery)} runs in one script call.
+ * <p>
+ * Each read is named, and the result is looked up by that name in the {@link PageSnapshot}. Elements are located
+ * through the W3C parameters of their locator by {@link ScriptLocators}, so CSS, XPath, id, name, class name,
+ * tag name and link text locators are supported. A missing element reads as not displayed, with empty text and no attributes.
+ * </p>
+ */
+public final class PageQuery {
+
+    private final Map<String, Map<String, Object>> reads = new LinkedHashMap<>();
+
+    private PageQuery() {}
+
+    /**
+     * Starts an empty query. The URL and title of the page are always read.
+     *
+     * @return a new query
+     */
+    public static PageQuery create() {
+        return new PageQuery();
+    }
+
+    /**
+     * Reads the visible text of an element, which is empty if the element is missing or hidden.
+     *
+     * @param name    the name the text is looked up by
+     * @param locator the locator of the element
+     * @return this query
+     */
+    public PageQuery text(String name, By locator) {
+        return add(name, "text", locator, null);
+    }
+
+    /**
+     * Reads whether an element is present and displayed.
+     *
+     * @param name    the name the visibility is looked up by
+     * @param locator the locator of the element
+     * @return this query
+     */
+    public PageQuery displayed(String name, By locator) {
+        return add(name, "displayed", locator, null);
+    }
+
+    /**
+     * Reads an attribute of an element, which is null if the element is missing or has no such attribute.
+     * As with {@link org.openqa.selenium.WebElement#getAttribute(String)}, boolean attributes such as
+     * {@code checked} and {@code disabled} come from the live property and read as {@code "true"} or null.
+     *
+     * @param name      the name the attribute is looked up by
+     * @param locator   the locator of the element
+     * @param attribute the attribute to read
+     * @return this query
+     */
+    public PageQuery attribute(String name, By locator, String attribute) {
+        return add(name, "attribute", locator, attribute);
+    }
+
+    /**
+     * Gets the reads of this query as script arguments.
+     *
+     * @return one map per read, in the order they were added
+     */
+    List<Map<String, Object>> reads() {
+        return new ArrayList<>(reads.values());
+    }
+
+    /**
+     * Gets the names of the reads, in the order they were added.
+     *
+     * @return the read names
+     */
+    List<String> names() {
+        return new ArrayList<>(reads.keySet());
+    }
+
+    private PageQuery add(String name, String kind, By locator, String attribute) {
+        Map<String, Object> read = ScriptLocators.toScript(locator);
+        read.put("kind", kind);
+        if (attribute != null) {
+            read.put("attribute", attribute);
+        }
+        reads.put(name, read);
+        return this;
+    }
+}
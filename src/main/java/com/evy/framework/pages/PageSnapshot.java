@@ -0,0 +1,83 @@
+package com.evy.framework.pages;
+
+import java.util.Map;
+
+/**
+ * Result of a {@link PageQuery}: the values of its reads, plus the URL and title of the page, taken at one moment.
+ * <p>
+ * Reading from the snapshot makes no further browser calls.
+ * </p>
+ */
+public final class PageSnapshot {
+
+    private final String url;
+    private final String title;
+    private final Map<String, Object> values;
+
+    PageSnapshot(String url, String title, Map<String, Object> values) {
+        this.url = url;
+        this.title = title;
+        this.values = values;
+    }
+
+    /**
+     * Gets the URL of the page.
+     *
+     * @return the page URL
+     */
+    public String url() {
+        return url;
+    }
+
+    /**
+     * Gets the title of the page.
+     *
+     * @return the page title
+     */
+    public String title() {
+        return title;
+    }
+
+    /**
+     * Gets the visible text of a read added with {@link PageQuery#text}.
+     *
+     * @param name the name of the read
+     * @return the visible text, empty if the element was missing or hidden
+     */
+    public String text(String name) {
+        return String.valueOf(value(name, "text"));
+    }
+
+    /**
+     * Gets the visibility of a read added with {@link PageQuery#displayed}.
+     *
+     * @param name the name of the read
+     * @return true if the element was present and displayed
+     */
+    public boolean isDisplayed(String name) {
+        return Boolean.TRUE.equals(value(name, "displayed"));
+    }
+
+    /**
+     * Gets the value of a read added with {@link PageQuery#attribute}.
+     *
+     * @param name the name of the read
+     * @return the attribute value, or null if the element was missing or has no such attribute
+     */
+    public String attribute(String name) {
+        Object value = value(name, "attribute");
+        return value == null ? null : String.valueOf(value);
+    }
+
+    private Object value(String name, String kind) {
+        if (!values.containsKey(name)) {
+            throw new IllegalArgumentException("No " + kind + " read named " + name + " in page snapshot");
+        }
+        return values.get(name);
+    }
+
+    @Override
+    public String toString() {
+        return "PageSnapshot{url=" + url + ", title=" + title + ", values=" + values + "}";
+    }
+}
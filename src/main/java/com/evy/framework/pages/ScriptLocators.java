@@ -0,0 +1,54 @@
+package com.evy.framework.pages;
+
+import org.openqa.selenium.By;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Passes locators to page scripts that work on several elements in one call.
+ * <p>
+ * A locator is sent as the W3C strategy and value of its {@link By.Remotable} parameters, and resolved in the
+ * page by {@link #FIND_FUNCTION}, which returns the first matching element or null.
+ * </p>
+ */
+final class ScriptLocators {
+
+    /**
+     * Script function {@code find(using, value)} that resolves a W3C locator to its first matching element, or null.
+     */
+    static final String FIND_FUNCTION =
+            "function find(using, value) {" +
+            "  switch (using) {" +
+            "    case 'css selector': return document.querySelector(value);" +
+            "    case 'xpath': return document.evaluate(value, document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;" +
+            "    case 'id': return document.getElementById(value);" +
+            "    case 'name': return document.getElementsByName(value)[0] || null;" +
+            "    case 'class name': return document.getElementsByClassName(value)[0] || null;" +
+            "    case 'tag name': return document.getElementsByTagName(value)[0] || null;" +
+            "    case 'link text': return Array.from(document.links).find(function (a) { return a.innerText.trim() === value; }) || null;" +
+            "    case 'partial link text': return Array.from(document.links).find(function (a) { return a.innerText.indexOf(value) >= 0; }) || null;" +
+            "    default: throw new Error('Unsupported locator strategy: ' + using);" +
+            "  }" +
+            "}";
+
+    private ScriptLocators() {}
+
+    /**
+     * Converts a locator to a script argument with {@code using} and {@code value} entries.
+     *
+     * @param locator the locator to convert
+     * @return a mutable map the caller may add further entries to
+     * @throws IllegalArgumentException if the locator has no W3C form
+     */
+    static Map<String, Object> toScript(By locator) {
+        if (!(locator instanceof By.Remotable remotable)) {
+            throw new IllegalArgumentException("Locator cannot be resolved in a script: " + locator);
+        }
+        By.Remotable.Parameters parameters = remotable.getRemoteParameters();
+        Map<String, Object> argument = new HashMap<>();
+        argument.put("using", parameters.using());
+        argument.put("value", String.valueOf(parameters.value()));
+        return argument;
+    }
+}
@@ -0,0 +1,211 @@
+package com.evy.framework.pages.authentication;
+
+import com.evy.framework.config.ConfigManager;
+import com.evy.framework.drivers.Driver;
+import com.evy.framework.pages.HomePage;
+import com.evy.framework.utils.LoggerUtils;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.WebDriver;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Caches authenticated sessions per test account so tests that only need a logged-in user skip the UI login.
+ * <p>
+ * The first request for an account signs in (or registers) through the real forms and captures the session
+ * cookies. Later requests inject those cookies into the current driver and confirm on the account page that
+ * the session is still valid; an expired session is dropped and the account signs in through the form again.
+ * Tests that verify the login or registration forms themselves should keep using {@link LoginPage} and
+ * {@link RegisterPage} directly.
+ * </p>
+ */
+public final class AuthSessionCache {
+
+    private static final AuthSessionCache INSTANCE = new AuthSessionCache();
+
+    /**
+     * Storefront cookie that ties browser-side customer data to a session. It is not replayed, so the
+     * storefront reloads customer data for the injected session instead of trusting empty local storage.
+     */
+    private static final String CUSTOMER_DATA_COOKIE = "mage-cache-sessid";
+
+    /**
+     * Cookies that carry the customer session. Only their expiry decides whether a cached session is still usable;
+     * other cookies, such as short-lived cache markers, are simply not replayed once they have expired.
+     */
+    private static final Set<String> SESSION_COOKIES = Set.of("PHPSESSID", "persistent_shopping_cart");
+
+    private final Map<String, Set<Cookie>> sessions = new ConcurrentHashMap<>();
+    private final Map<String, Object> accountLocks = new ConcurrentHashMap<>();
+
+    private AuthSessionCache() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Gets the singleton instance of the AuthSessionCache class.
+     *
+     * @return the singleton AuthSessionCache instance
+     */
+    public static AuthSessionCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Signs in an existing account, reusing its cached session when possible.
+     *
+     * @param email    the email address of the account
+     * @param password the password of the account
+     * @return the {@link HomePage} with the user signed in
+     * @throws IllegalStateException if the storefront rejects the credentials
+     */
+    public HomePage signIn(String email, String password) {
+        return trySignIn(email, password)
+                .orElseThrow(() -> new IllegalStateException("Failed to sign in test account " + email));
+    }
+
+    /**
+     * Signs in an account if the storefront knows it, reusing its cached session when possible.
+     * <p>
+     * Pair it with {@link #signUp(String, String, String, String, String)} for stable test accounts, so the
+     * account is only registered on the first run against a storefront.
+     * </p>
+     *
+     * @param email    the email address of the account
+     * @param password the password of the account
+     * @return the {@link HomePage} with the user signed in, or empty if the storefront rejects the credentials
+     */
+    public Optional<HomePage> trySignIn(String email, String password) {
+        synchronized (lockFor(email)) {
+            if (!restore(email)) {
+                if (!loginThroughForm(email, password)) {
+                    return Optional.empty();
+                }
+                capture(email);
+            }
+        }
+        return Optional.of(HomePage.getInstance());
+    }
+
+    /**
+     * Signs in an account, registering it through the form the first time it is used.
+     * <p>
+     * Later calls reuse the cached session, and sign in through the login form if it has expired.
+     * </p>
+     *
+     * @param firstName    the first name of the user
+     * @param lastName     the last name of the user
+     * @param email        the email address of the account
+     * @param password     the password of the account
+     * @param confirmation the password confirmation
+     * @return the {@link HomePage} with the user signed in
+     * @throws IllegalStateException if the email is already registered on the storefront, or if the storefront
+     *                               rejects the registration
+     */
+    public HomePage signUp(String firstName, String lastName, String email, String password, String confirmation) {
+        synchronized (lockFor(email)) {
+            if (restore(email)) {
+                return HomePage.getInstance();
+            }
+            if (sessions.containsKey(email)) {
+                if (!loginThroughForm(email, password)) {
+                    throw new IllegalStateException("Failed to sign in test account " + email);
+                }
+            } else {
+                registerThroughForm(firstName, lastName, email, password, confirmation);
+            }
+            capture(email);
+        }
+        return HomePage.getInstance();
+    }
+
+    /**
+     * Drops the cached session of an account.
+     *
+     * @param email the email address of the account
+     */
+    public void invalidate(String email) {
+        sessions.remove(email);
+    }
+
+    private Object lockFor(String email) {
+        return accountLocks.computeIfAbsent(email, key -> new Object());
+    }
+
+    private boolean loginThroughForm(String email, String password) {
+        boolean loggedIn = HomePage.getInstance()
+                .navigateToAuthentication()
+                .navigateToLoginPage()
+                .login(email, password, false, LoginPage.class)
+                .isLoginSuccess("valid login data");
+        if (!loggedIn) {
+            LoggerUtils.info(AuthSessionCache.class, "Storefront rejected the credentials of " + email);
+        }
+        return loggedIn;
+    }
+
+    private void registerThroughForm(String firstName, String lastName, String email, String password, String confirmation) {
+        RegisterPage registerPage = HomePage.getInstance()
+                .navigateToAuthentication()
+                .navigateToRegisterPage()
+                .register(firstName, lastName, email, password, confirmation, false, RegisterPage.class);
+        String emailInUse = registerPage.getRegisterResponseMsg("invalid email in use data");
+        if (!emailInUse.isBlank()) {
+            throw new IllegalStateException("Test account " + email + " is already registered on the storefront ("
+                    + emailInUse.trim() + "). If its password was changed elsewhere, set testAccountEmail and "
+                    + "testAccountPassword for this environment to an account you own.");
+        }
+        if (registerPage.getRegisterResponseMsg("valid data").isBlank()) {
+            throw new IllegalStateException("Failed to register test account " + email);
+        }
+    }
+
+    private void capture(String email) {
+        Set<Cookie> cookies = Driver.getInstance().getDriver().manage().getCookies().stream()
+                .filter(cookie -> !CUSTOMER_DATA_COOKIE.equals(cookie.getName()))
+                .collect(Collectors.toSet());
+        sessions.put(email, cookies);
+        LoggerUtils.info(AuthSessionCache.class, "Captured authenticated session for " + email);
+    }
+
+    /**
+     * Injects the cached session of an account and checks that the storefront still accepts it.
+     *
+     * @param email the email address of the account
+     * @return true if the session was restored, false if none is cached or it has expired
+     */
+    private boolean restore(String email) {
+        Set<Cookie> cookies = sessions.get(email);
+        if (cookies == null) {
+            return false;
+        }
+        Date now = new Date();
+        if (cookies.stream().anyMatch(cookie -> SESSION_COOKIES.contains(cookie.getName()) && isExpired(cookie, now))) {
+            LoggerUtils.info(AuthSessionCache.class, "Cached session for " + email + " has expired");
+            return false;
+        }
+        WebDriver driver = Driver.getInstance().getDriver();
+        driver.manage().deleteAllCookies();
+        cookies.stream()
+                .filter(cookie -> !isExpired(cookie, now))
+                .forEach(cookie -> driver.manage().addCookie(cookie));
+        driver.get(ConfigManager.get().url() + "customer/account/");
+        if (driver.getCurrentUrl().contains("/customer/account/login")) {
+            LoggerUtils.info(AuthSessionCache.class, "Cached session for " + email + " was rejected by the storefront");
+            driver.manage().deleteAllCookies();
+            driver.get(ConfigManager.get().url());
+            return false;
+        }
+        LoggerUtils.info(AuthSessionCache.class, "Restored authenticated session for " + email);
+        return true;
+    }
+
+    private static boolean isExpired(Cookie cookie, Date now) {
+        return cookie.getExpiry() != null && cookie.getExpiry().before(now);
+    }
+}
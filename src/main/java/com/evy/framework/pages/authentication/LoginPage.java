@@ -1,7 +1,9 @@
 package com.evy.framework.pages.authentication;
 
 import com.evy.framework.pages.BasePage;
+import com.evy.framework.pages.PageQuery;
 import com.evy.framework.utils.LoggerUtils;
+import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
 
@@ -19,12 +21,10 @@ public class LoginPage extends BasePage {
     private WebElement password;
     @FindBy(css = "#send2")
     private WebElement loginBtn;
-    @FindBy(css = ".page-header .logged-in")
-    private WebElement successLoginMsg;
-    @FindBy(css = "div[data-ui-id='message-error']>div")
-    private WebElement failLoginMsg;
-    @FindBy(css = "div[generated='true']")
-    private WebElement failLoginEmptyDataMsg;
+
+    private final By successLoginMsg = By.cssSelector(".page-header .logged-in");
+    private final By failLoginMsg = By.cssSelector("div[data-ui-id='message-error']>div");
+    private final By failLoginEmptyDataMsg = By.cssSelector("div[generated='true']");
 
     /**
      * Logs in the user with the provided credentials.
@@ -60,16 +60,25 @@ public class LoginPage extends BasePage {
 
     /**
      * Checks if the login operation was successful based on the provided criteria.
+     * <p>
+     * Waits once for any login outcome to appear, then reads all outcomes in one snapshot and checks the expected one.
+     * </p>
      *
      * @param operation the type of operation to check (valid/invalid login data)
      * @return true if the login was successful, false otherwise
      */
     public boolean isLoginSuccess(String operation) {
-        return switch (operation) {
-            case "valid login data" -> isDisplayed(this.successLoginMsg, "success login message");
-            case "invalid login data" -> isDisplayed(this.failLoginMsg, "fail login message");
-            case "invalid login empty data" -> isDisplayed(this.failLoginEmptyDataMsg, "fail login empty data message");
+        String message = switch (operation) {
+            case "valid login data" -> "success login message";
+            case "invalid login data" -> "fail login message";
+            case "invalid login empty data" -> "fail login empty data message";
             default -> throw new IllegalStateException("Unexpected value: " + operation);
         };
+        waitForAnyVisible("login outcome", this.successLoginMsg, this.failLoginMsg, this.failLoginEmptyDataMsg);
+        return readPage(PageQuery.create()
+                .displayed("success login message", this.successLoginMsg)
+                .displayed("fail login message", this.failLoginMsg)
+                .displayed("fail login empty data message", this.failLoginEmptyDataMsg))
+                .isDisplayed(message);
     }
 }
@@ -1,10 +1,15 @@
 package com.evy.framework.pages.authentication;
 
 import com.evy.framework.pages.BasePage;
+import com.evy.framework.pages.PageQuery;
 import com.evy.framework.utils.LoggerUtils;
+import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * Represents the Register Page of the application.
  * <p>
@@ -13,35 +18,25 @@ import org.openqa.selenium.support.FindBy;
  */
 public class RegisterPage extends BasePage {
 
-    @FindBy(css = "#firstname")
-    private WebElement firstName;
-    @FindBy(css = "#lastname")
-    private WebElement lastName;
-    @FindBy(css = "#email_address")
-    private WebElement email;
-    @FindBy(css = "#password")
-    private WebElement password;
-    @FindBy(css = "#password-confirmation")
-    private WebElement confirmation;
     @FindBy(css = "button[title*='Create']")
     private WebElement registerBtn;
-    @FindBy(css = "div[data-ui-id='message-success']>div")
-    private WebElement successRegisterMsg;
-    @FindBy(css = "#email_address-error")
-    private WebElement failEmailFormatMsg;
-    @FindBy(css = "div[data-ui-id='message-error']>div")
-    private WebElement failEmailInUseMsg;
-    @FindBy(css = "#password-error")
-    private WebElement failPasswordsFormatMsg;
-    @FindBy(css = "#password-confirmation-error")
-    private WebElement failPasswordsMismatchMsg;
-    @FindBy(css = "div[generated=true]")
-    private WebElement failEmptyDataMsg;
+
+    private final By firstName = By.cssSelector("#firstname");
+    private final By lastName = By.cssSelector("#lastname");
+    private final By email = By.cssSelector("#email_address");
+    private final By password = By.cssSelector("#password");
+    private final By confirmation = By.cssSelector("#password-confirmation");
+    private final By successRegisterMsg = By.cssSelector("div[data-ui-id='message-success']>div");
+    private final By failEmailFormatMsg = By.cssSelector("#email_address-error");
+    private final By failEmailInUseMsg = By.cssSelector("div[data-ui-id='message-error']>div");
+    private final By failPasswordsFormatMsg = By.cssSelector("#password-error");
+    private final By failPasswordsMismatchMsg = By.cssSelector("#password-confirmation-error");
+    private final By failEmptyDataMsg = By.cssSelector("div[generated=true]");
 
     /**
      * Registers a new user with the provided details.
      * <p>
-     * Performs registration and navigates to the next page if criteria are met.
+     * Fills the form in one script call, then performs registration and navigates to the next page if criteria are met.
      * </p>
      *
      * @param firstName     the first name of the user
@@ -56,11 +51,13 @@ public class RegisterPage extends BasePage {
      */
     public <T>T register(String firstName, String lastName, String email, String password, String confirmation, boolean criteria, Class<T> nextPageClass) {
         try {
-            sendKeys(this.firstName, firstName, "firstName");
-            sendKeys(this.lastName, lastName, "lastName");
-            sendKeys(this.email, email, "email");
-            sendKeys(this.password, password, "password");
-            sendKeys(this.confirmation, confirmation, "confirmation");
+            Map<By, String> fields = new LinkedHashMap<>();
+            fields.put(this.firstName, firstName);
+            fields.put(this.lastName, lastName);
+            fields.put(this.email, email);
+            fields.put(this.password, password);
+            fields.put(this.confirmation, confirmation);
+            fillForm("register form", fields);
 
             if (criteria) {
                 clickWaitForTitleAndNavigate(this.registerBtn, "register button", "My Account", "MyAccountPage");
@@ -77,19 +74,33 @@ public class RegisterPage extends BasePage {
 
     /**
      * Retrieves the registration response message based on the provided operation.
+     * <p>
+     * Waits once for any registration outcome to appear, then reads all response messages in one snapshot
+     * and returns the expected one, which is empty if it is not shown.
+     * </p>
      *
      * @param operation the type of operation to check (valid/invalid data)
      * @return the response message
      */
     public String getRegisterResponseMsg(String operation) {
-        return switch (operation) {
-            case "valid data" -> getText(this.successRegisterMsg, "success register message");
-            case "invalid email format data" -> getText(this.failEmailFormatMsg, "fail email format message");
-            case "invalid email in use data" -> getText(this.failEmailInUseMsg, "fail email in use message");
-            case "invalid passwords format data" -> getText(this.failPasswordsFormatMsg, "fail passwords format message");
-            case "invalid passwords mismatch data" -> getText(this.failPasswordsMismatchMsg, "fail passwords mismatch message");
-            case "invalid empty data" -> getText(this.failEmptyDataMsg, "fail empty data message");
+        String message = switch (operation) {
+            case "valid data" -> "success register message";
+            case "invalid email format data" -> "fail email format message";
+            case "invalid email in use data" -> "fail email in use message";
+            case "invalid passwords format data" -> "fail passwords format message";
+            case "invalid passwords mismatch data" -> "fail passwords mismatch message";
+            case "invalid empty data" -> "fail empty data message";
             default -> throw new IllegalStateException("Unexpected value: " + operation);
         };
+        waitForAnyVisible("register outcome", this.successRegisterMsg, this.failEmailFormatMsg, this.failEmailInUseMsg,
+                this.failPasswordsFormatMsg, this.failPasswordsMismatchMsg, this.failEmptyDataMsg);
+        return readPage(PageQuery.create()
+                .text("success register message", this.successRegisterMsg)
+                .text("fail email format message", this.failEmailFormatMsg)
+                .text("fail email in use message", this.failEmailInUseMsg)
+                .text("fail passwords format message", this.failPasswordsFormatMsg)
+                .text("fail passwords mismatch message", this.failPasswordsMismatchMsg)
+                .text("fail empty data message", this.failEmptyDataMsg))
+                .text(message);
     }
 }
@@ -1,13 +1,14 @@
 package com.evy.framework.pages.checkout;
 
 import com.evy.framework.pages.BasePage;
+import com.evy.framework.pages.PageQuery;
+import com.evy.framework.pages.PageSnapshot;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
 
-import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * Page object representing the checkout page.
@@ -15,33 +16,49 @@ import java.time.Duration;
  */
 public class ShipmentPage extends BasePage {
 
-    @FindBy(css = "input[name='firstname']")
-    private WebElement firstName;
+    private final By firstName = By.cssSelector("input[name='firstname']");
+    private final By lastName = By.cssSelector("input[name='lastname']");
+    private final By address = By.cssSelector("input[name='street[0]']");
+    private final By city = By.cssSelector("input[name='city']");
+    private final By postcode = By.cssSelector("input[name='postcode']");
+    private final By country = By.cssSelector("select[name='country_id']");
+    private final By telephone = By.cssSelector("input[name='telephone']");
 
-    @FindBy(css = "input[name='lastname']")
-    private WebElement lastName;
-
-    @FindBy(css = "input[name='street[0]']")
-    private WebElement address;
-
-    @FindBy(css = "input[name='city']")
-    private WebElement city;
-
-    @FindBy(css = "input[name='postcode']")
-    private WebElement postcode;
-
-    @FindBy(css = "select[name='country_id']")
-    private WebElement country;
-
-    @FindBy(css = "input[name='telephone']")
-    private WebElement telephone;
-
-    @FindBy(css = "input[value='flatrate_flatrate']")
-    private WebElement flatRateShipmentMethod;
+    private final By flatRateShipmentMethod = By.cssSelector("input[value='flatrate_flatrate']");
 
     @FindBy(css = "button[data-role='opc-continue']")
     private WebElement nextButton;
 
+    /**
+     * Fills the whole shipping address form in one pass.
+     * <p>
+     * Waits once for the form, sets every field in a single script call that fires the events the checkout's
+     * Knockout bindings listen to, and verifies all values in the same call.
+     * </p>
+     *
+     * @param firstName The first name to be entered.
+     * @param lastName  The last name to be entered.
+     * @param address   The address to be entered.
+     * @param city      The city to be entered.
+     * @param postcode  The postcode to be entered.
+     * @param country   The country to be selected.
+     * @param phone     The phone number to be entered.
+     * @return the current instance of CheckoutPage for method chaining.
+     */
+    public ShipmentPage fillShippingAddress(String firstName, String lastName, String address, String city,
+                                            String postcode, String country, String phone){
+        Map<By, String> fields = new LinkedHashMap<>();
+        fields.put(this.firstName, firstName);
+        fields.put(this.lastName, lastName);
+        fields.put(this.address, address);
+        fields.put(this.city, city);
+        fields.put(this.postcode, postcode);
+        fields.put(this.country, country);
+        fields.put(this.telephone, phone);
+        fillForm("shipping address form", fields);
+        return this;
+    }
+
     /**
      * Sets the first name in the checkout form.
      *
@@ -120,13 +137,17 @@ public class ShipmentPage extends BasePage {
     }
 
     /**
-     * Clicks the flat rate shipment method option if it is visible and enabled.
+     * Clicks the flat rate shipment method option if it is visible, enabled and not already selected.
+     * The enabled and selected states are read in one snapshot.
      *
      * @return the current instance of CheckoutPage for method chaining.
      */
     public ShipmentPage clickFlatRateShipmentMethod(){
-        new WebDriverWait(driver, Duration.ofSeconds(10)).until(ExpectedConditions.visibilityOf(this.flatRateShipmentMethod));
-        if(this.flatRateShipmentMethod.isEnabled()) {
+        waitForElementToBeVisible(this.flatRateShipmentMethod, "flat rate shipment method");
+        PageSnapshot state = readPage(PageQuery.create()
+                .attribute("disabled", this.flatRateShipmentMethod, "disabled")
+                .attribute("checked", this.flatRateShipmentMethod, "checked"));
+        if(state.attribute("disabled") == null && state.attribute("checked") == null) {
             click(this.flatRateShipmentMethod, "flat rate shipment method");
         }
         return this;
@@ -139,7 +160,7 @@ public class ShipmentPage extends BasePage {
      */
     public PaymentPage clickNextPageBtn(){
         click(this.nextButton, "nextButton");
-        waitForElementToBeVisible(driver.findElement(By.xpath("//div[normalize-space()='Payment Method']")),"aa");
+        waitForElementToBeVisible(By.xpath("//div[normalize-space()='Payment Method']"), "payment method title");
         return new PaymentPage();
     }
 }
\ No newline at end of file
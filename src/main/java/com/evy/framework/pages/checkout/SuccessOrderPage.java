@@ -1,8 +1,8 @@
 package com.evy.framework.pages.checkout;
 
 import com.evy.framework.pages.BasePage;
-import org.openqa.selenium.WebElement;
-import org.openqa.selenium.support.FindBy;
+import com.evy.framework.pages.PageQuery;
+import org.openqa.selenium.By;
 
 /**
  * Represents the Success Order Page of the application.
@@ -12,15 +12,19 @@ import org.openqa.selenium.support.FindBy;
  */
 public class SuccessOrderPage extends BasePage {
 
-    @FindBy(css = ".page-title>span")
-    private WebElement successOrderMsg;
+    private final By successOrderMsg = By.cssSelector(".page-title>span");
 
     /**
      * Retrieves the success order message displayed on the page.
+     * <p>
+     * The page title has already been waited for on arrival, so the message is read in one snapshot without a further wait.
+     * </p>
      *
      * @return the success order message as a {@link String}
      */
     public String getSuccessOrderMsg() {
-        return getText(this.successOrderMsg, "success order message");
+        return readPage(PageQuery.create().text("success order message", this.successOrderMsg))
+                .text("success order message")
+                .trim();
     }
 }
@@ -0,0 +1,95 @@
+package com.evy.framework.pages.product;
+
+import com.evy.framework.utils.LoggerUtils;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * JVM-wide index of the category menu, mapping main, sub and sub-sub category names to their URLs.
+ * <p>
+ * The index is built once per run from the {@code ui-id-2} menu tree in a single script call, on the first
+ * lookup, and shared by all test threads. Category names are matched after collapsing whitespace,
+ * as the menu locators did with {@code normalize-space()}.
+ * </p>
+ */
+final class CategoryIndex {
+
+    private static final String SEPARATOR = "\u001f";
+
+    private static final String INDEX_SCRIPT =
+            "var index = {};" +
+            "function name(a) { return a.textContent.replace(/\\s+/g, ' ').trim(); }" +
+            "function walk(ul, path) {" +
+            "  for (var i = 0; i < ul.children.length; i++) {" +
+            "    var li = ul.children[i], a = li.querySelector(':scope > a');" +
+            "    if (li.tagName !== 'LI' || !a || !a.href) { continue; }" +
+            "    var key = path.concat([name(a)]);" +
+            "    index[key.join(separator)] = a.href;" +
+            "    var sub = li.querySelector(':scope > ul');" +
+            "    if (sub) { walk(sub, key); }" +
+            "  }" +
+            "}" +
+            "var separator = arguments[0], root = document.getElementById('ui-id-2');" +
+            "if (root) { walk(root, []); }" +
+            "return index;";
+
+    private static volatile Map<String, String> index;
+
+    private CategoryIndex() {}
+
+    /**
+     * Looks up the URL of a category, building the index from the current page on first use.
+     *
+     * @param driver         the WebDriver of a page that shows the category menu
+     * @param mainCategory   the main category
+     * @param subCategory    the sub-category, or empty
+     * @param subSubCategory the sub-sub-category, or empty
+     * @return the category URL, or empty if the menu has no such category
+     */
+    static Optional<String> urlOf(WebDriver driver, String mainCategory, String subCategory, String subSubCategory) {
+        StringBuilder key = new StringBuilder(normalize(mainCategory));
+        if (!subCategory.isEmpty()) {
+            key.append(SEPARATOR).append(normalize(subCategory));
+            if (!subSubCategory.isEmpty()) {
+                key.append(SEPARATOR).append(normalize(subSubCategory));
+            }
+        }
+        return Optional.ofNullable(index(driver).get(key.toString()));
+    }
+
+    private static Map<String, String> index(WebDriver driver) {
+        Map<String, String> current = index;
+        if (current != null) {
+            return current;
+        }
+        synchronized (CategoryIndex.class) {
+            if (index == null) {
+                Map<String, String> built = build(driver);
+                if (built.isEmpty()) {
+                    LoggerUtils.info(CategoryIndex.class, "Category menu not found on " + driver.getCurrentUrl() + ", index not cached");
+                    return built;
+                }
+                index = built;
+                LoggerUtils.info(CategoryIndex.class, "Category index built with " + built.size() + " categories");
+            }
+            return index;
+        }
+    }
+
+    private static Map<String, String> build(WebDriver driver) {
+        Object result = ((JavascriptExecutor) driver).executeScript(INDEX_SCRIPT, SEPARATOR);
+        Map<String, String> built = new HashMap<>();
+        if (result instanceof Map<?, ?> entries) {
+            entries.forEach((key, url) -> built.put(String.valueOf(key), String.valueOf(url)));
+        }
+        return Map.copyOf(built);
+    }
+
+    private static String normalize(String name) {
+        return name.replaceAll("\\s+", " ").trim();
+    }
+}
@@ -1,26 +1,28 @@
 package com.evy.framework.pages.product;
 
+import com.evy.framework.config.ConfigManager;
 import com.evy.framework.pages.BasePage;
 import com.evy.framework.utils.LoggerUtils;
 import org.openqa.selenium.By;
-import org.openqa.selenium.WebElement;
-import org.openqa.selenium.support.FindBy;
+
+import java.util.Optional;
 
 /**
  * Represents the navigation to the product dropdown categories.
  * <p>
- * Provides methods to select categories and navigate to the product listing page based on main, sub, and sub-sub categories.
+ * Provides methods to select categories and navigate to the product listing page based on main, sub, and sub-sub categories,
+ * either directly by URL or through the dropdown menu.
  * </p>
  */
 public class NavigateToProductDropdown extends BasePage {
 
-    @FindBy(css = "span[data-ui-id='page-title-wrapper']")
-    private WebElement productListingPageHeader;
+    private final By productListingPageHeader = By.cssSelector("span[data-ui-id='page-title-wrapper']");
 
     /**
-     * Selects the given categories from the dropdown menu and navigates to the Product Listing Page.
+     * Navigates to the Product Listing Page of the given categories.
      * <p>
-     * Handles the selection of main, sub, and sub-sub categories.
+     * Opens the category URL from the {@link CategoryIndex} with a single navigation. Goes through the real
+     * dropdown menu instead when strict category navigation is configured or the index has no such category.
      * </p>
      *
      * @param mainCategory the main category to select
@@ -29,28 +31,77 @@ public class NavigateToProductDropdown extends BasePage {
      * @return an instance of the {@link ProductListingPage} class
      */
     public ProductListingPage selectCategories(String mainCategory, String subCategory, String subSubCategory) {
+        if (ConfigManager.get().categoryNavigationStrict()) {
+            return selectCategoriesFromMenu(mainCategory, subCategory, subSubCategory);
+        }
+        Optional<String> url = CategoryIndex.urlOf(driver, mainCategory, subCategory, subSubCategory);
+        if (url.isEmpty()) {
+            LoggerUtils.info(getClass(), "Category " + mainCategory + "," + subCategory + "," + subSubCategory
+                    + " not in category index, selecting it from dropdown");
+            return selectCategoriesFromMenu(mainCategory, subCategory, subSubCategory);
+        }
+        navigateTo(url.get(), productListingPageHeader, "ProductListingPage Header", "ProductListingPage");
+        return new ProductListingPage();
+    }
+
+    /**
+     * Opens the Product Page of a product directly, without browsing its category listing.
+     * <p>
+     * The product URL comes from the {@link ProductIndex}, built from the category listing given by the
+     * {@link CategoryIndex}, so the browser loads only the product page. For tests about product attributes
+     * or checkout rather than browsing. Falls back to selecting the categories and the product when strict
+     * category navigation is configured or either index has no entry.
+     * </p>
+     *
+     * @param mainCategory the main category of the product
+     * @param subCategory the sub-category of the product (can be empty if not needed)
+     * @param subSubCategory the sub-sub-category of the product (can be empty if not needed)
+     * @param productName the name of the product
+     * @return an instance of the {@link ProductPage} class
+     */
+    public ProductPage openProduct(String mainCategory, String subCategory, String subSubCategory, String productName) {
+        Optional<String> url = ConfigManager.get().categoryNavigationStrict()
+                ? Optional.empty()
+                : CategoryIndex.urlOf(driver, mainCategory, subCategory, subSubCategory)
+                        .flatMap(listingUrl -> ProductIndex.urlOf(driver, listingUrl, productName));
+        if (url.isEmpty()) {
+            return selectCategories(mainCategory, subCategory, subSubCategory).selectProductByName(productName);
+        }
+        navigateTo(url.get(), ProductPage.pageHeaderOf(productName), "ProductPageHeader", "ProductPage");
+        return new ProductPage();
+    }
+
+    /**
+     * Selects the given categories from the dropdown menu and navigates to the Product Listing Page.
+     * <p>
+     * Handles the selection of main, sub, and sub-sub categories by hovering through the real menu.
+     * Used by tests that verify the dropdown itself.
+     * </p>
+     *
+     * @param mainCategory the main category to select
+     * @param subCategory the sub-category to select (can be empty if not needed)
+     * @param subSubCategory the sub-sub-category to select (can be empty if not needed)
+     * @return an instance of the {@link ProductListingPage} class
+     */
+    public ProductListingPage selectCategoriesFromMenu(String mainCategory, String subCategory, String subSubCategory) {
         try {
-            String mainCategoryStringValue = String.format("//ul[@id='ui-id-2']/li/a/span[normalize-space()='%s']", mainCategory);
-            WebElement mainCategoryElement = driver.findElement(By.xpath(mainCategoryStringValue));
+            By mainCategoryLocator = By.xpath(String.format("//ul[@id='ui-id-2']/li/a/span[normalize-space()='%s']", mainCategory));
 
             if (subCategory.isEmpty() && subSubCategory.isEmpty()) {
-                click(mainCategoryElement, mainCategory);
+                click(mainCategoryLocator, mainCategory);
             } else if (subSubCategory.isEmpty()) {
-                String subCategoryStringValue = String.format("//ul[@id='ui-id-2']/li/a/span[normalize-space()='%s']/ancestor::li/ul/li/a/span[normalize-space()='%s']", mainCategory, subCategory);
-                WebElement subCategoryElement = driver.findElement(By.xpath(subCategoryStringValue));
-                moveToElement(mainCategoryElement, mainCategory);
-                click(subCategoryElement, subCategory);
+                By subCategoryLocator = By.xpath(String.format("//ul[@id='ui-id-2']/li/a/span[normalize-space()='%s']/ancestor::li/ul/li/a/span[normalize-space()='%s']", mainCategory, subCategory));
+                moveToElement(mainCategoryLocator, mainCategory);
+                click(subCategoryLocator, subCategory);
             } else {
-                String subCategoryStringValue = String.format("//ul[@id='ui-id-2']/li/a/span[normalize-space()='%s']/ancestor::li/ul/li/a/span[normalize-space()='%s']", mainCategory, subCategory);
-                WebElement subCategoryElement = driver.findElement(By.xpath(subCategoryStringValue));
-                String subSubCategoryStringValue = String.format("//ul[@id='ui-id-2']/li/a/span[normalize-space()='%s']/ancestor::li/ul/li/a/span[normalize-space()='%s']/ancestor::li//ul//span[normalize-space()='%s']", mainCategory, subCategory, subSubCategory);
-                WebElement subSubElement = driver.findElement(By.xpath(subSubCategoryStringValue));
-                moveToElement(mainCategoryElement, mainCategory);
-                moveToElement(subCategoryElement, subCategory);
-                click(subSubElement, subSubCategory);
+                By subCategoryLocator = By.xpath(String.format("//ul[@id='ui-id-2']/li/a/span[normalize-space()='%s']/ancestor::li/ul/li/a/span[normalize-space()='%s']", mainCategory, subCategory));
+                By subSubCategoryLocator = By.xpath(String.format("//ul[@id='ui-id-2']/li/a/span[normalize-space()='%s']/ancestor::li/ul/li/a/span[normalize-space()='%s']/ancestor::li//ul//span[normalize-space()='%s']", mainCategory, subCategory, subSubCategory));
+                moveToElement(mainCategoryLocator, mainCategory);
+                moveToElement(subCategoryLocator, subCategory);
+                click(subSubCategoryLocator, subSubCategory);
             }
 
-            waitForElementToBeVisible(driver.findElement(By.cssSelector("span[data-ui-id='page-title-wrapper']")), "ProductListingPage Header");
+            waitForElementToBeVisible(this.productListingPageHeader, "ProductListingPage Header");
             return new ProductListingPage();
 
         } catch (Exception e) {
@@ -0,0 +1,109 @@
+package com.evy.framework.pages.product;
+
+import com.evy.framework.config.ConfigManager;
+import com.evy.framework.utils.LoggerUtils;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JVM-wide index of product URLs by product name, built lazily from category listing pages.
+ * <p>
+ * A listing is read in a single asynchronous script call that fetches it inside the browser with the
+ * {@code product_list_limit} page size, so most listings arrive in one request, and follows the pager
+ * for any further pages. Entries expire after the configured TTL, after which the listing is read again.
+ * Product names are matched after collapsing whitespace.
+ * </p>
+ */
+final class ProductIndex {
+
+    private static final String FETCH_LISTING_SCRIPT =
+            "var limit = arguments[1], done = arguments[arguments.length - 1];" +
+            "var products = {}, pages = 0;" +
+            "function withLimit(url) {" +
+            "  var parsed = new URL(url, location.href);" +
+            "  parsed.searchParams.set('product_list_limit', limit);" +
+            "  return parsed.href;" +
+            "}" +
+            "function load(url) {" +
+            "  fetch(url, {credentials: 'same-origin'}).then(function (response) { return response.text(); }).then(function (html) {" +
+            "    var doc = new DOMParser().parseFromString(html, 'text/html');" +
+            "    doc.querySelectorAll('a.product-item-link').forEach(function (a) {" +
+            "      products[a.textContent.replace(/\\s+/g, ' ').trim()] = new URL(a.getAttribute('href'), url).href;" +
+            "    });" +
+            "    var next = doc.querySelector('.pages-item-next a');" +
+            "    if (next && ++pages < 50) { load(withLimit(new URL(next.getAttribute('href'), url).href)); } else { done(products); }" +
+            "  }).catch(function () { done(products); });" +
+            "}" +
+            "load(withLimit(arguments[0]));";
+
+    private static final Map<String, Entry> PRODUCTS = new ConcurrentHashMap<>();
+    private static final Map<String, Long> LISTINGS = new ConcurrentHashMap<>();
+
+    private ProductIndex() {}
+
+    /**
+     * Looks up the URL of a product, reading the listing it appears on if the index has no fresh entry.
+     *
+     * @param driver      the WebDriver used to fetch the listing, on a page of the same site
+     * @param listingUrl  the URL of a category listing that contains the product
+     * @param productName the name of the product
+     * @return the product URL, or empty if the listing has no such product or could not be read
+     */
+    static Optional<String> urlOf(WebDriver driver, String listingUrl, String productName) {
+        String name = normalize(productName);
+        Entry entry = PRODUCTS.get(name);
+        if (entry != null && entry.isFresh()) {
+            return Optional.of(entry.url());
+        }
+        Long listingExpiry = LISTINGS.get(listingUrl);
+        if (listingExpiry == null || System.nanoTime() - listingExpiry > 0) {
+            index(driver, listingUrl);
+            entry = PRODUCTS.get(name);
+        }
+        return entry != null && entry.isFresh() ? Optional.of(entry.url()) : Optional.empty();
+    }
+
+    /**
+     * Reads a listing into the index. A listing that cannot be read, for example because the script timed out,
+     * is logged and left out of the index, so callers fall back to browsing and the listing is read again next time.
+     */
+    private static void index(WebDriver driver, String listingUrl) {
+        Object result;
+        try {
+            result = ((JavascriptExecutor) driver).executeAsyncScript(FETCH_LISTING_SCRIPT, listingUrl,
+                    ConfigManager.get().productListPageSize());
+        } catch (WebDriverException e) {
+            LoggerUtils.error(ProductIndex.class, "Failed to index products from " + listingUrl, e);
+            return;
+        }
+        long expiresAt = System.nanoTime() + TimeUnit.MINUTES.toNanos(ConfigManager.get().productIndexTtlMinutes());
+        int count = 0;
+        if (result instanceof Map<?, ?> products) {
+            for (Map.Entry<?, ?> product : products.entrySet()) {
+                PRODUCTS.put(normalize(String.valueOf(product.getKey())), new Entry(String.valueOf(product.getValue()), expiresAt));
+                count++;
+            }
+        }
+        if (count > 0) {
+            LISTINGS.put(listingUrl, expiresAt);
+        }
+        LoggerUtils.info(ProductIndex.class, "Indexed " + count + " products from " + listingUrl);
+    }
+
+    private static String normalize(String name) {
+        return name.replaceAll("\\s+", " ").trim();
+    }
+
+    private record Entry(String url, long expiresAt) {
+
+        private boolean isFresh() {
+            return System.nanoTime() - expiresAt < 0;
+        }
+    }
+}
@@ -3,7 +3,7 @@ package com.evy.framework.pages.product;
 import com.evy.framework.pages.BasePage;
 import com.evy.framework.utils.LoggerUtils;
 import org.openqa.selenium.By;
-import org.openqa.selenium.WebElement;
+import org.openqa.selenium.NoSuchElementException;
 
 /**
  * Represents the Product Listing Page of the application.
@@ -13,10 +13,21 @@ import org.openqa.selenium.WebElement;
  */
 public class ProductListingPage extends BasePage {
 
+    /**
+     * Gets the locator of the product links of the listing.
+     *
+     * @return the product link locator
+     */
+    public static By productLinks() {
+        return By.cssSelector("a.product-item-link");
+    }
+
     /**
      * Selects a product by its name from the product listing page.
      * <p>
-     * Navigates to the Product Page of the selected product.
+     * Waits once, with the explicit wait, for either the product or any other product of the listing. Clicks the
+     * product if it is on the loaded page. Otherwise, for example when it sits on a later page of a paginated
+     * listing, opens its URL from the {@link ProductIndex} directly.
      * </p>
      *
      * @param productName the name of the product to select
@@ -24,10 +35,15 @@ public class ProductListingPage extends BasePage {
      */
     public ProductPage selectProductByName(String productName) {
         try {
-            String productNameStringValue = String.format("//a[@class='product-item-link'][normalize-space()='%s']", productName);
-            WebElement productNameElement = driver.findElement(By.xpath(productNameStringValue));
-            click(productNameElement, productName);
-            waitForElementToBeVisible(driver.findElement(By.xpath("//span[@class='base'][normalize-space()='" + productName + "']")), "ProductPageHeader");
+            By productNameLocator = By.xpath(String.format("//a[@class='product-item-link'][normalize-space()='%s']", productName));
+            if (productNameLocator.equals(waitForAnyVisible("product " + productName, productNameLocator, productLinks()))) {
+                click(productNameLocator, productName);
+                waitForElementToBeVisible(ProductPage.pageHeaderOf(productName), "ProductPageHeader");
+                return new ProductPage();
+            }
+            String productUrl = ProductIndex.urlOf(driver, driver.getCurrentUrl(), productName)
+                    .orElseThrow(() -> new NoSuchElementException("Product not found in listing: " + productName));
+            navigateTo(productUrl, ProductPage.pageHeaderOf(productName), "ProductPageHeader", "ProductPage");
             return new ProductPage();
 
         } catch (Exception e) {
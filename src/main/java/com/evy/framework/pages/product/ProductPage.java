@@ -1,15 +1,14 @@
 package com.evy.framework.pages.product;
 
+import com.evy.framework.constants.ActionType;
 import com.evy.framework.pages.BasePage;
+import com.evy.framework.pages.PageQuery;
 import com.evy.framework.pages.checkout.ShipmentPage;
 import com.evy.framework.utils.ActionUtils;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
 import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
-
-import java.time.Duration;
 
 /**
  * Represents the Product Page of the application.
@@ -29,18 +28,25 @@ public class ProductPage extends BasePage {
     @FindBy(css = "#product-addtocart-button")
     private WebElement addProductToCartBtn;
 
-    @FindBy(css = "div[data-ui-id='message-success']>div")
-    private WebElement addToCartSuccessMsg;
-
-    @FindBy(css = "#qty-error")
-    private WebElement quantityProductError;
-
     @FindBy(css = ".action.showcart")
     private WebElement cartBtn;
 
     @FindBy(css = "#top-cart-btn-checkout")
     private WebElement navigateToCheckoutBtn;
 
+    private final By addToCartSuccessMsg = By.cssSelector("div[data-ui-id='message-success']>div");
+    private final By quantityProductError = By.cssSelector("#qty-error");
+
+    /**
+     * Gets the locator of the Product Page header showing a given product name.
+     *
+     * @param productName the name of the product
+     * @return the header locator
+     */
+    public static By pageHeaderOf(String productName) {
+        return By.xpath(String.format("//span[@class='base'][normalize-space()='%s']", productName));
+    }
+
     /**
      * Gets the header text of the Product Page.
      *
@@ -60,9 +66,8 @@ public class ProductPage extends BasePage {
      * @return the current {@link ProductPage} instance
      */
     public ProductPage setProductSize(String productSize) {
-        String productSizeStringValue = String.format("div[id*='option-label-size'][option-tooltip-value='%s']", productSize);
-        WebElement element = driver.findElement(By.cssSelector(productSizeStringValue));
-        click(element, productSize);
+        By productSizeLocator = By.cssSelector(String.format("div[id*='option-label-size'][option-tooltip-value='%s']", productSize));
+        click(productSizeLocator, productSize);
         return this;
     }
 
@@ -76,9 +81,8 @@ public class ProductPage extends BasePage {
      * @return the current {@link ProductPage} instance
      */
     public ProductPage setProductColor(String productColor) {
-        String productColorStringValue = String.format("div[id*='option-label-color'][aria-label='%s']", productColor);
-        WebElement element = driver.findElement(By.cssSelector(productColorStringValue));
-        click(element, productColor);
+        By productColorLocator = By.cssSelector(String.format("div[id*='option-label-color'][aria-label='%s']", productColor));
+        click(productColorLocator, productColor);
         return this;
     }
 
@@ -113,22 +117,28 @@ public class ProductPage extends BasePage {
      * Gets the response message after attempting to add the product to the cart.
      * <p>
      * Displays a success message if the operation is successful, or an error message if the quantity is invalid.
+     * Waits once for either message to appear, then reads both in one snapshot and returns the expected one,
+     * which is empty if the other outcome appeared instead.
      * </p>
      *
      * @param operation the type of operation ("valid data" or "invalid data")
      * @return the response message
      */
     public String getAddProductCartResponseMsg(String operation) {
+        String message;
         if (operation.equalsIgnoreCase("valid data")) {
-            ActionUtils.execBooleanFunction(getClass(), () ->
-                    new WebDriverWait(driver, Duration.ofSeconds(10))
-                            .until(ExpectedConditions.textToBePresentInElement(this.addToCartSuccessMsg, "You added")), "Success Message Display", "Success Message Is not Display");
-            return getText(this.addToCartSuccessMsg, "add to cart success message");
+            message = "add to cart success message";
         } else if (operation.equalsIgnoreCase("invalid data")) {
-            return getText(this.quantityProductError, "Quantity Product Error message");
+            message = "Quantity Product Error message";
         } else {
             throw new IllegalArgumentException(operation + " is an illegal operation");
         }
+        waitForAnyVisible("add to cart response message", this.addToCartSuccessMsg, this.quantityProductError);
+        return readPage(PageQuery.create()
+                .text("add to cart success message", this.addToCartSuccessMsg)
+                .text("Quantity Product Error message", this.quantityProductError))
+                .text(message)
+                .trim();
     }
 
     /**
@@ -140,11 +150,11 @@ public class ProductPage extends BasePage {
      * @return an instance of the {@link ShipmentPage} class
      */
     public ShipmentPage navigateToCheckout() {
-        ActionUtils.execBooleanFunction(getClass(), () ->
-                new WebDriverWait(driver, Duration.ofSeconds(10))
-                        .until(ExpectedConditions.textToBePresentInElement(this.addToCartSuccessMsg, "You added")), "Success Message Display", "Success Message Is not Display");
+        ActionUtils.execBooleanFunction(getClass(), ActionType.WAIT, "add to cart success message", () ->
+                waitUntil(ExpectedConditions.textToBePresentInElementLocated(this.addToCartSuccessMsg, "You added"), "add to cart success message"),
+                "Success Message Display", "Success Message Is not Display");
         click(this.cartBtn, "cart button");
-        waitForElementToBeVisible(driver.findElement(By.cssSelector(".subtotal")), "total");
+        waitForElementInBrowser(".subtotal", "total");
         clickWaitForTitleAndNavigate(this.navigateToCheckoutBtn, "navigate to checkout button", "Checkout", "CheckoutPage");
 
         return new ShipmentPage();
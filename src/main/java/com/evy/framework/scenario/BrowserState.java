@@ -0,0 +1,100 @@
+package com.evy.framework.scenario;
+
+import com.evy.framework.utils.WaitUtils;
+import org.openqa.selenium.By;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Snapshot of the state a scenario prefix leaves the browser in: the current URL, the cookies and the
+ * local and session storage of the page.
+ * <p>
+ * Cookies that identify the server-side session are left out, so every restore starts a fresh storefront
+ * session, with an empty cart, on top of the same navigation state. That keeps rows isolated from each other.
+ * </p>
+ */
+record BrowserState(String url, Set<Cookie> cookies, Map<String, String> localStorage, Map<String, String> sessionStorage) {
+
+    /**
+     * Cookies that tie the browser to a storefront session and its cart and customer data.
+     */
+    private static final Set<String> SESSION_COOKIES = Set.of("PHPSESSID", "form_key", "mage-cache-sessid", "private_content_version");
+
+    private static final String READ_STORAGE_SCRIPT =
+            "function read(storage) {" +
+            "  var values = {};" +
+            "  for (var i = 0; i < storage.length; i++) { values[storage.key(i)] = storage.getItem(storage.key(i)); }" +
+            "  return values;" +
+            "}" +
+            "return {local: read(window.localStorage), session: read(window.sessionStorage)};";
+
+    private static final String WRITE_STORAGE_SCRIPT =
+            "function write(storage, values) {" +
+            "  storage.clear();" +
+            "  Object.keys(values).forEach(function (key) { storage.setItem(key, values[key]); });" +
+            "}" +
+            "write(window.localStorage, arguments[0]);" +
+            "write(window.sessionStorage, arguments[1]);";
+
+    /**
+     * Captures the state of the current page.
+     *
+     * @param driver the WebDriver to capture
+     * @return the captured state
+     */
+    static BrowserState capture(WebDriver driver) {
+        Set<Cookie> cookies = driver.manage().getCookies().stream()
+                .filter(cookie -> !SESSION_COOKIES.contains(cookie.getName()))
+                .collect(Collectors.toUnmodifiableSet());
+        Object storage = ((JavascriptExecutor) driver).executeScript(READ_STORAGE_SCRIPT);
+        Map<?, ?> areas = storage instanceof Map<?, ?> map ? map : Map.of();
+        return new BrowserState(driver.getCurrentUrl(), cookies, toStrings(areas.get("local")), toStrings(areas.get("session")));
+    }
+
+    /**
+     * Checks if any captured cookie has expired since the capture.
+     *
+     * @return true if the state can no longer be restored as captured
+     */
+    boolean isExpired() {
+        Date now = new Date();
+        return cookies.stream().anyMatch(cookie -> cookie.getExpiry() != null && cookie.getExpiry().before(now));
+    }
+
+    /**
+     * Restores the state into a driver that is on a page of the same site, then opens the captured URL
+     * and waits for the page the state was captured on to be usable.
+     *
+     * @param driver the WebDriver to restore into
+     * @param anchor the element that shows the captured page is ready, or null to wait for the document only
+     * @param name   the name of the restored state, used to record the wait time
+     */
+    void restore(WebDriver driver, By anchor, String name) {
+        driver.manage().deleteAllCookies();
+        cookies.forEach(cookie -> driver.manage().addCookie(cookie));
+        ((JavascriptExecutor) driver).executeScript(WRITE_STORAGE_SCRIPT, localStorage, sessionStorage);
+        driver.get(url);
+        if (anchor != null) {
+            WaitUtils.waitForVisible(driver, anchor, WaitUtils.defaultTimeout(), name);
+        } else {
+            WaitUtils.waitUntil(driver,
+                    d -> !"loading".equals(((JavascriptExecutor) d).executeScript("return document.readyState")),
+                    WaitUtils.defaultTimeout(), name);
+        }
+    }
+
+    private static Map<String, String> toStrings(Object values) {
+        Map<String, String> strings = new HashMap<>();
+        if (values instanceof Map<?, ?> map) {
+            map.forEach((key, value) -> strings.put(String.valueOf(key), String.valueOf(value)));
+        }
+        return Map.copyOf(strings);
+    }
+}
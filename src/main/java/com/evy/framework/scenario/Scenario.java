@@ -0,0 +1,178 @@
+package com.evy.framework.scenario;
+
+import com.evy.framework.config.ConfigManager;
+import com.evy.framework.constants.ActionType;
+import com.evy.framework.drivers.Driver;
+import com.evy.framework.pages.BasePage;
+import com.evy.framework.pages.HomePage;
+import com.evy.framework.utils.ActionUtils;
+import com.evy.framework.utils.LoggerUtils;
+import org.openqa.selenium.By;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Chain of named page steps whose shared prefixes run once and are replayed from a browser snapshot.
+ * <p>
+ * A scenario starts on the home page and adds one step per {@link #then(String, Supplier, Function)} call.
+ * After a step runs, the browser state it leaves behind is captured as a {@link BrowserState} under the
+ * names of all steps up to it. When another data-provider row runs a scenario with the same leading step
+ * names, the deepest captured prefix is restored with one navigation and only the remaining steps run.
+ * Snapshots are shared by all test threads for the whole run. Step names must describe everything the
+ * step depends on, since equal names are treated as equal steps.
+ * </p>
+ * <p>
+ * A restore sets every captured cookie and the storage before navigating, so it is not always cheaper than
+ * running a short prefix again. The time each step takes and the time each restore takes are recorded, and a
+ * snapshot is skipped once restoring it has proven slower than running its prefix. Every restore logs its gain.
+ * </p>
+ *
+ * @param <P> the page the scenario ends on
+ */
+public final class Scenario<P extends BasePage> {
+
+    private static final Map<String, BrowserState> SNAPSHOTS = new ConcurrentHashMap<>();
+    private static final Map<String, Long> STEP_NANOS = new ConcurrentHashMap<>();
+    private static final Map<String, Long> RESTORE_NANOS = new ConcurrentHashMap<>();
+
+    private final Scenario<?> parent;
+    private final String key;
+    private final By anchor;
+    private final Supplier<P> restoredPage;
+    private final Function<Object, P> step;
+
+    private Scenario(Scenario<?> parent, String key, By anchor, Supplier<P> restoredPage, Function<Object, P> step) {
+        this.parent = parent;
+        this.key = key;
+        this.anchor = anchor;
+        this.restoredPage = restoredPage;
+        this.step = step;
+    }
+
+    /**
+     * Starts a scenario on the home page.
+     *
+     * @return a scenario with no steps
+     */
+    public static Scenario<HomePage> fromHome() {
+        return new Scenario<>(null, "home", null, HomePage::getInstance, null);
+    }
+
+    /**
+     * Adds a step to the scenario. A restore of the step only waits for the document to load.
+     *
+     * @param stepName     the name of the step, including every input it depends on
+     * @param restoredPage creates the page object the step ends on, for when the step is restored from a snapshot
+     * @param step         runs the step from the page the scenario is on
+     * @param <Q>          the page the step ends on
+     * @return the scenario extended with the step
+     */
+    public <Q extends BasePage> Scenario<Q> then(String stepName, Supplier<Q> restoredPage, Function<P, Q> step) {
+        return then(stepName, null, restoredPage, step);
+    }
+
+    /**
+     * Adds a step to the scenario whose restore waits for an element of the page the step ends on.
+     *
+     * @param stepName     the name of the step, including every input it depends on
+     * @param anchor       the element that shows the page the step ends on is ready
+     * @param restoredPage creates the page object the step ends on, for when the step is restored from a snapshot
+     * @param step         runs the step from the page the scenario is on
+     * @param <Q>          the page the step ends on
+     * @return the scenario extended with the step
+     */
+    @SuppressWarnings("unchecked")
+    public <Q extends BasePage> Scenario<Q> then(String stepName, By anchor, Supplier<Q> restoredPage, Function<P, Q> step) {
+        return new Scenario<>(this, key + " > " + stepName, anchor, restoredPage, page -> step.apply((P) page));
+    }
+
+    /**
+     * Runs the scenario, restoring its deepest captured prefix and running only the steps after it.
+     *
+     * @return the page the scenario ends on
+     */
+    @SuppressWarnings("unchecked")
+    public P run() {
+        Deque<Scenario<?>> steps = new ArrayDeque<>();
+        for (Scenario<?> node = this; node != null; node = node.parent) {
+            steps.push(node);
+        }
+        boolean snapshots = ConfigManager.get().scenarioSnapshots();
+        Object page = snapshots ? restoreDeepest(steps) : null;
+        if (page == null) {
+            page = steps.pop().restoredPage.get();
+        }
+        while (!steps.isEmpty()) {
+            Scenario<?> node = steps.pop();
+            long start = System.nanoTime();
+            page = node.step.apply(page);
+            STEP_NANOS.put(node.key, System.nanoTime() - start);
+            if (snapshots && !SNAPSHOTS.containsKey(node.key)) {
+                SNAPSHOTS.putIfAbsent(node.key, BrowserState.capture(Driver.getInstance().getDriver()));
+                LoggerUtils.info(Scenario.class, "Captured scenario state: " + node.key);
+            }
+        }
+        return (P) page;
+    }
+
+    /**
+     * Restores the deepest step with a valid snapshot and removes it and the steps before it from the queue.
+     *
+     * @return the page object of the restored step, or null if no step has a valid snapshot
+     */
+    private static Object restoreDeepest(Deque<Scenario<?>> steps) {
+        Scenario<?>[] path = steps.toArray(new Scenario<?>[0]);
+        for (int i = path.length - 1; i > 0; i--) {
+            Scenario<?> node = path[i];
+            BrowserState state = SNAPSHOTS.get(node.key);
+            if (state == null) {
+                continue;
+            }
+            if (state.isExpired()) {
+                SNAPSHOTS.remove(node.key, state);
+                continue;
+            }
+            long prefixNanos = prefixNanos(path, i);
+            Long restoreNanos = RESTORE_NANOS.get(node.key);
+            if (restoreNanos != null && prefixNanos >= 0 && restoreNanos >= prefixNanos) {
+                continue;
+            }
+            long start = System.nanoTime();
+            ActionUtils.execVoidFunction(Scenario.class, ActionType.NAVIGATE, node.key,
+                    () -> state.restore(Driver.getInstance().getDriver(), node.anchor, node.key),
+                    "Restored scenario state: " + node.key, "Failed to restore scenario state: " + node.key);
+            long elapsed = System.nanoTime() - start;
+            RESTORE_NANOS.put(node.key, elapsed);
+            LoggerUtils.info(Scenario.class, String.format(Locale.ROOT, "Restored %s in %.0f ms, its steps took %s",
+                    node.key, elapsed / 1e6, prefixNanos < 0 ? "an unknown time" : String.format(Locale.ROOT, "%.0f ms", prefixNanos / 1e6)));
+            for (int j = 0; j <= i; j++) {
+                steps.pop();
+            }
+            return node.restoredPage.get();
+        }
+        return null;
+    }
+
+    /**
+     * Adds up the recorded times of the steps up to and including a step.
+     *
+     * @return the time the steps took when they last ran, or -1 if any of them has no recorded time
+     */
+    private static long prefixNanos(Scenario<?>[] path, int last) {
+        long total = 0;
+        for (int i = 1; i <= last; i++) {
+            Long nanos = STEP_NANOS.get(path[i].key);
+            if (nanos == null) {
+                return -1;
+            }
+            total += nanos;
+        }
+        return total;
+    }
+}
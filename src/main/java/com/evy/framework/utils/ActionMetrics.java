@@ -0,0 +1,222 @@
+package com.evy.framework.utils;
+
+import com.evy.framework.constants.ActionType;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records the latency of every page action in concurrent histograms keyed by page class, action type and element name.
+ * <p>
+ * Each histogram uses log-linear buckets over microseconds: 16 linear buckets per power of two, which keeps
+ * percentiles within about 6% of the true value with a fixed, small amount of memory per key. Recording is
+ * lock-free. Timings are inclusive, so an action that runs other actions also contains their time.
+ * </p>
+ */
+public final class ActionMetrics {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 40;
+    private static final int BUCKETS = SUB_BUCKETS + (MAX_EXPONENT - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    private static final Map<Key, Histogram> HISTOGRAMS = new ConcurrentHashMap<>();
+
+    private ActionMetrics() {}
+
+    /**
+     * Records one finished action.
+     *
+     * @param page        the page class that ran the action
+     * @param action      the type of action
+     * @param elementName the name of the element acted on
+     * @param nanos       the wall time of the action including retries, in nanoseconds
+     * @param attempts    the number of attempts made
+     * @param failed      true if the action failed after its last attempt
+     */
+    public static void record(Class<?> page, ActionType action, String elementName, long nanos, int attempts, boolean failed) {
+        HISTOGRAMS.computeIfAbsent(new Key(page.getSimpleName(), action, elementName), key -> new Histogram())
+                .record(TimeUnit.NANOSECONDS.toMicros(nanos), attempts, failed);
+    }
+
+    /**
+     * Writes the recorded metrics as {@code action-metrics.json} and {@code action-metrics.csv}, slowest total time first.
+     *
+     * @param dir the directory to write to
+     * @throws IOException if the files cannot be written
+     */
+    public static void export(Path dir) throws IOException {
+        Files.createDirectories(dir);
+        List<Row> rows = HISTOGRAMS.entrySet().stream()
+                .map(entry -> new Row(entry.getKey(), entry.getValue().snapshot()))
+                .sorted(Comparator.comparingLong((Row row) -> row.snapshot().totalMicros()).reversed())
+                .toList();
+        try (Writer csv = Files.newBufferedWriter(dir.resolve("action-metrics.csv"), StandardCharsets.UTF_8)) {
+            csv.write("page,action,element,count,attempts,retries,failures,total_ms,mean_ms,p50_ms,p95_ms,p99_ms,max_ms\n");
+            for (Row row : rows) {
+                Snapshot s = row.snapshot();
+                csv.write(String.join(",", csvField(row.key().page()), row.key().action().name(), csvField(row.key().element()),
+                        Long.toString(s.count()), Long.toString(s.attempts()), Long.toString(s.attempts() - s.count()),
+                        Long.toString(s.failures()), millis(s.totalMicros()), millis(s.meanMicros()),
+                        millis(s.p50()), millis(s.p95()), millis(s.p99()), millis(s.maxMicros())));
+                csv.write('\n');
+            }
+        }
+        try (Writer json = Files.newBufferedWriter(dir.resolve("action-metrics.json"), StandardCharsets.UTF_8)) {
+            json.write("[");
+            for (int i = 0; i < rows.size(); i++) {
+                Row row = rows.get(i);
+                Snapshot s = row.snapshot();
+                json.write(i == 0 ? "\n" : ",\n");
+                json.write("  {\"page\": " + jsonString(row.key().page())
+                        + ", \"action\": \"" + row.key().action().name() + "\""
+                        + ", \"element\": " + jsonString(row.key().element())
+                        + ", \"count\": " + s.count()
+                        + ", \"attempts\": " + s.attempts()
+                        + ", \"retries\": " + (s.attempts() - s.count())
+                        + ", \"failures\": " + s.failures()
+                        + ", \"totalMs\": " + millis(s.totalMicros())
+                        + ", \"meanMs\": " + millis(s.meanMicros())
+                        + ", \"p50Ms\": " + millis(s.p50())
+                        + ", \"p95Ms\": " + millis(s.p95())
+                        + ", \"p99Ms\": " + millis(s.p99())
+                        + ", \"maxMs\": " + millis(s.maxMicros()) + "}");
+            }
+            json.write("\n]\n");
+        }
+    }
+
+    private static String millis(long micros) {
+        return String.format(Locale.ROOT, "%.3f", micros / 1000.0);
+    }
+
+    private static String csvField(String value) {
+        if (value.contains(",") || value.contains("\"") || value.contains("\n")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+
+    private static String jsonString(String value) {
+        StringBuilder escaped = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '"' -> escaped.append("\\\"");
+                case '\\' -> escaped.append("\\\\");
+                case '\n' -> escaped.append("\\n");
+                case '\r' -> escaped.append("\\r");
+                case '\t' -> escaped.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        escaped.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        escaped.append(c);
+                    }
+                }
+            }
+        }
+        return escaped.append('"').toString();
+    }
+
+    /**
+     * Gets the histogram bucket of a latency.
+     *
+     * @param micros the latency, in microseconds
+     * @return the bucket index
+     */
+    static int bucketIndex(long micros) {
+        if (micros < SUB_BUCKETS) {
+            return (int) Math.max(0, micros);
+        }
+        int exponent = Math.min(63 - Long.numberOfLeadingZeros(micros), MAX_EXPONENT);
+        int subBucket = (int) (micros >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return Math.min(SUB_BUCKETS + (exponent - SUB_BUCKET_BITS) * SUB_BUCKETS + subBucket, BUCKETS - 1);
+    }
+
+    /**
+     * Gets the largest latency that falls into a bucket.
+     *
+     * @param index the bucket index
+     * @return the upper bound of the bucket, in microseconds
+     */
+    static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int exponent = (index - SUB_BUCKETS) / SUB_BUCKETS + SUB_BUCKET_BITS;
+        long mantissa = SUB_BUCKETS + (index - SUB_BUCKETS) % SUB_BUCKETS;
+        return ((mantissa + 1) << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+
+    private record Key(String page, ActionType action, String element) {}
+
+    private record Row(Key key, Snapshot snapshot) {}
+
+    private record Snapshot(long count, long attempts, long failures, long totalMicros, long maxMicros,
+                            long p50, long p95, long p99) {
+
+        long meanMicros() {
+            return count == 0 ? 0 : totalMicros / count;
+        }
+    }
+
+    /**
+     * Lock-free latency histogram with attempt and failure counters.
+     */
+    private static final class Histogram {
+
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+        private final LongAdder count = new LongAdder();
+        private final LongAdder attempts = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder totalMicros = new LongAdder();
+        private final LongAccumulator maxMicros = new LongAccumulator(Math::max, 0);
+
+        void record(long micros, int attemptCount, boolean failed) {
+            buckets.incrementAndGet(bucketIndex(micros));
+            count.increment();
+            attempts.add(attemptCount);
+            if (failed) {
+                failures.increment();
+            }
+            totalMicros.add(micros);
+            maxMicros.accumulate(micros);
+        }
+
+        Snapshot snapshot() {
+            long[] counts = new long[BUCKETS];
+            long total = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                counts[i] = buckets.get(i);
+                total += counts[i];
+            }
+            long max = maxMicros.get();
+            return new Snapshot(count.sum(), attempts.sum(), failures.sum(), totalMicros.sum(), max,
+                    percentile(counts, total, 0.50, max), percentile(counts, total, 0.95, max), percentile(counts, total, 0.99, max));
+        }
+
+        private static long percentile(long[] counts, long total, double quantile, long max) {
+            long rank = (long) Math.ceil(total * quantile);
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank && seen > 0) {
+                    return Math.min(bucketUpperBound(i), max);
+                }
+            }
+            return max;
+        }
+    }
+}
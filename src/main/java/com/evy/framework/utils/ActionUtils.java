@@ -1,19 +1,39 @@
 package com.evy.framework.utils;
 
-import io.qameta.allure.Allure;
+import com.evy.framework.config.ConfigManager;
+import com.evy.framework.constants.ActionType;
+import com.evy.framework.events.ActionEvent;
+import com.evy.framework.events.FrameworkEvents;
+import io.qameta.allure.model.Status;
 
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 /**
  * Utility class for executing actions with retry logic.
  * <p>
- * This class provides methods to run functions with retry attempts. It logs the outcome and reports
- * results to Allure. It is used in {@link com.evy.framework.pages.BasePage} for executing actions
- * that may need retries.
+ * This class provides methods to run functions with retry attempts, governed by a {@link RetryPolicy}.
+ * It logs the outcome and reports results to Allure. It is used in {@link com.evy.framework.pages.BasePage} for executing actions
+ * that may need retries. Every action is timed into {@link ActionMetrics} and emitted as a Flight Recorder
+ * {@link ActionEvent} when enabled.
  * </p>
  */
 public final class ActionUtils {
 
+    private static final String UNNAMED_ELEMENT = "-";
+
+    private static final ThreadLocal<int[]> DEPTH = ThreadLocal.withInitial(() -> new int[1]);
+    private static final ThreadLocal<int[]> RETRY_BUDGET =
+            ThreadLocal.withInitial(() -> new int[]{ConfigManager.get().retryBudgetPerTest()});
+    private static final LongAdder RETRIES = new LongAdder();
+    private static final LongAdder RETRY_NANOS = new LongAdder();
+    private static final LongAdder TERMINAL_ERRORS = new LongAdder();
+    private static final LongAdder ATTEMPTS_EXHAUSTED = new LongAdder();
+    private static final LongAdder BUDGET_EXHAUSTED = new LongAdder();
+
+    private static volatile RetryPolicy retryPolicy = new TransientErrorRetryPolicy();
 
     private ActionUtils() {}
 
@@ -26,10 +46,39 @@ public final class ActionUtils {
      * @param errorMsg   the message to log and report on failure
      */
     public static void execVoidFunction(Class<?> cls, Runnable exec, String successMsg, String errorMsg) {
-        executeWithRetry(cls, () -> {
+        execVoidFunction(cls, ActionType.OTHER, UNNAMED_ELEMENT, exec, successMsg, errorMsg);
+    }
+
+    /**
+     * Executes a void function with retry logic and records its latency.
+     *
+     * @param cls         the class for logging
+     * @param action      the type of action, for latency metrics
+     * @param elementName the name of the element acted on, for latency metrics
+     * @param exec        the function to execute
+     * @param successMsg  the message to log and report on success
+     * @param errorMsg    the message to log and report on failure
+     */
+    public static void execVoidFunction(Class<?> cls, ActionType action, String elementName, Runnable exec, String successMsg, String errorMsg) {
+        execVoidFunction(cls, action, elementName, exec, () -> successMsg, () -> errorMsg);
+    }
+
+    /**
+     * Executes a void function with retry logic and records its latency, building messages only when they are used.
+     *
+     * @param cls         the class for logging
+     * @param action      the type of action, for latency metrics
+     * @param elementName the name of the element acted on, for latency metrics
+     * @param exec        the function to execute
+     * @param successMsg  builds the message to log and report on success
+     * @param errorMsg    builds the message to log and report on failure
+     */
+    public static void execVoidFunction(Class<?> cls, ActionType action, String elementName, Runnable exec,
+                                        Supplier<String> successMsg, Supplier<String> errorMsg) {
+        executeWithRetry(cls, action, elementName, () -> {
             exec.run();
             return null;
-        }, successMsg, errorMsg, true);
+        }, result -> successMsg.get(), errorMsg, true);
     }
 
     /**
@@ -42,7 +91,39 @@ public final class ActionUtils {
      * @return the result of the function execution
      */
     public static String execStringFunction(Class<?> cls, Supplier<String> exec, String successMsg, String errorMsg) {
-        return executeWithRetry(cls, exec, successMsg, errorMsg, false);
+        return execStringFunction(cls, ActionType.OTHER, UNNAMED_ELEMENT, exec, successMsg, errorMsg);
+    }
+
+    /**
+     * Executes a function that returns a String with retry logic and records its latency.
+     *
+     * @param cls         the class for logging
+     * @param action      the type of action, for latency metrics
+     * @param elementName the name of the element acted on, for latency metrics
+     * @param exec        the function to execute
+     * @param successMsg  the message to log and report on success
+     * @param errorMsg    the message to log and report on failure
+     * @return the result of the function execution
+     */
+    public static String execStringFunction(Class<?> cls, ActionType action, String elementName, Supplier<String> exec, String successMsg, String errorMsg) {
+        return execStringFunction(cls, action, elementName, exec, result -> successMsg, () -> errorMsg);
+    }
+
+    /**
+     * Executes a function that returns a String with retry logic and records its latency,
+     * building messages only when they are used.
+     *
+     * @param cls         the class for logging
+     * @param action      the type of action, for latency metrics
+     * @param elementName the name of the element acted on, for latency metrics
+     * @param exec        the function to execute
+     * @param successMsg  builds the message to log and report on success from the result
+     * @param errorMsg    builds the message to log and report on failure
+     * @return the result of the function execution
+     */
+    public static String execStringFunction(Class<?> cls, ActionType action, String elementName, Supplier<String> exec,
+                                            Function<String, String> successMsg, Supplier<String> errorMsg) {
+        return executeWithRetry(cls, action, elementName, exec, successMsg, errorMsg, false);
     }
 
     /**
@@ -55,40 +136,206 @@ public final class ActionUtils {
      * @return the result of the function execution
      */
     public static boolean execBooleanFunction(Class<?> cls, Supplier<Boolean> exec, String successMsg, String errorMsg) {
-        return Boolean.TRUE.equals(executeWithRetry(cls, exec, successMsg, errorMsg, false));
+        return execBooleanFunction(cls, ActionType.OTHER, UNNAMED_ELEMENT, exec, successMsg, errorMsg);
+    }
+
+    /**
+     * Executes a function that returns a boolean with retry logic and records its latency.
+     *
+     * @param cls         the class for logging
+     * @param action      the type of action, for latency metrics
+     * @param elementName the name of the element acted on, for latency metrics
+     * @param exec        the function to execute
+     * @param successMsg  the message to log and report on success
+     * @param errorMsg    the message to log and report on failure
+     * @return the result of the function execution
+     */
+    public static boolean execBooleanFunction(Class<?> cls, ActionType action, String elementName, Supplier<Boolean> exec, String successMsg, String errorMsg) {
+        return execBooleanFunction(cls, action, elementName, exec, result -> successMsg, () -> errorMsg);
+    }
+
+    /**
+     * Executes a function that returns a boolean with retry logic and records its latency,
+     * building messages only when they are used.
+     *
+     * @param cls         the class for logging
+     * @param action      the type of action, for latency metrics
+     * @param elementName the name of the element acted on, for latency metrics
+     * @param exec        the function to execute
+     * @param successMsg  builds the message to log and report on success from the result
+     * @param errorMsg    builds the message to log and report on failure
+     * @return the result of the function execution
+     */
+    public static boolean execBooleanFunction(Class<?> cls, ActionType action, String elementName, Supplier<Boolean> exec,
+                                              Function<Boolean, String> successMsg, Supplier<String> errorMsg) {
+        return Boolean.TRUE.equals(executeWithRetry(cls, action, elementName, exec, successMsg, errorMsg, false));
+    }
+
+    /**
+     * Executes a function that returns a value of any type with retry logic and records its latency,
+     * building messages only when they are used.
+     *
+     * @param cls         the class for logging
+     * @param action      the type of action, for latency metrics
+     * @param elementName the name of the element acted on, for latency metrics
+     * @param exec        the function to execute
+     * @param successMsg  builds the message to log and report on success from the result
+     * @param errorMsg    builds the message to log and report on failure
+     * @param <T>         the return type of the function
+     * @return the result of the function execution
+     */
+    public static <T> T execFunction(Class<?> cls, ActionType action, String elementName, Supplier<T> exec,
+                                     Function<? super T, String> successMsg, Supplier<String> errorMsg) {
+        return executeWithRetry(cls, action, elementName, exec, successMsg, errorMsg, false);
+    }
+
+    /**
+     * Installs the retry policy used for all actions.
+     *
+     * @param policy the retry policy
+     */
+    public static void setRetryPolicy(RetryPolicy policy) {
+        retryPolicy = policy;
+    }
+
+    /**
+     * Resets the retry budget of the current thread. Called when a test starts.
+     */
+    public static void resetRetryBudget() {
+        RETRY_BUDGET.remove();
+    }
+
+    /**
+     * Builds a summary of how many retries ran and how much wall time they consumed.
+     * <p>
+     * Retry wall time starts when an action is first retried, backoff included, so failures that are never
+     * retried do not add to it.
+     * </p>
+     *
+     * @return the retry summary
+     */
+    public static String retrySummary() {
+        return "Action retries: " + RETRIES.sum()
+                + ", retry wall time: " + TimeUnit.NANOSECONDS.toMillis(RETRY_NANOS.sum()) + " ms"
+                + ", terminal errors not retried: " + TERMINAL_ERRORS.sum()
+                + ", attempts exhausted: " + ATTEMPTS_EXHAUSTED.sum()
+                + ", retry budget exhausted: " + BUDGET_EXHAUSTED.sum();
     }
 
     /**
      * Executes a function with retry logic and handles logging and Allure reporting.
+     * <p>
+     * Each action is reported as an Allure step through {@link AllureReporter}, with nested actions as its children,
+     * and top-level actions are captured by {@link StepScreenshots} when enabled.
+     * Only the outermost action retries. Actions nested inside it run once and leave the decision to the
+     * outer action, so retries do not multiply. Whether an error is retried and how long to back off is
+     * decided by the {@link RetryPolicy}, and retries draw on a per-test budget. The success message is built
+     * from the result only if info logging or Allure reporting is active; the error message only on failure.
+     * </p>
      *
-     * @param cls        the class for logging
-     * @param exec       the function to execute
-     * @param successMsg the message to log and report on success
-     * @param errorMsg   the message to log and report on failure
-     * @param <T>        the return type of the function
-     * @param isVoid     true if the function has no return value
+     * @param cls         the class for logging
+     * @param action      the type of action, for latency metrics
+     * @param elementName the name of the element acted on, for latency metrics
+     * @param exec        the function to execute
+     * @param successMsg  builds the message to log and report on success from the result
+     * @param errorMsg    builds the message to log and report on failure
+     * @param <T>         the return type of the function
+     * @param isVoid      true if the function has no return value
      * @return the result of the function execution, or null if it's a void function
      */
-    private static <T> T executeWithRetry(Class<?> cls, Supplier<T> exec, String successMsg, String errorMsg, boolean isVoid) {
+    private static <T> T executeWithRetry(Class<?> cls, ActionType action, String elementName, Supplier<T> exec,
+                                          Function<? super T, String> successMsg, Supplier<String> errorMsg, boolean isVoid) {
+        RetryPolicy policy = retryPolicy;
+        boolean nested = DEPTH.get()[0]++ > 0;
         int attempts = 0;
-        int maxAttempts=3;
-
-        while (true) {
-            try {
-                T result = exec.get();
-                LoggerUtils.info(cls, successMsg);
-                Allure.step(successMsg);
-                return result;
-            } catch (Exception e) {
-                attempts++;
-                if (attempts >=maxAttempts) {
-                    LoggerUtils.error(cls, errorMsg, e);
-                    Allure.step(errorMsg);
-                    throw new RuntimeException(errorMsg, e);
+        long start = System.nanoTime();
+        long retryStart = 0;
+        boolean failed = true;
+        String stepName = null;
+        Status stepStatus = Status.PASSED;
+        ActionEvent event = FrameworkEvents.beginAction();
+        AllureReporter.startStep();
+
+        try {
+            while (true) {
+                try {
+                    T result = exec.get();
+                    failed = false;
+                    stepName = reportSuccess(cls, successMsg, result);
+                    return result;
+                } catch (Exception e) {
+                    attempts++;
+                    long decided = System.nanoTime();
+                    if (nested || !retry(policy, e, attempts)) {
+                        String message = errorMsg.get();
+                        LoggerUtils.error(cls, message, e);
+                        stepName = message;
+                        stepStatus = Status.FAILED;
+                        throw new RuntimeException(message, e);
+                    }
+                    if (retryStart == 0) {
+                        retryStart = decided;
+                    }
                 }
             }
+        } finally {
+            AllureReporter.stopStep(AllureReporter.isActive() ? stepName : null, stepStatus);
+            DEPTH.get()[0]--;
+            ActionMetrics.record(cls, action, elementName, System.nanoTime() - start, failed ? attempts : attempts + 1, failed);
+            event.complete(cls, action, elementName, failed ? attempts : attempts + 1, failed, nested);
+            if (retryStart != 0) {
+                RETRY_NANOS.add(System.nanoTime() - retryStart);
+            }
+            if (!nested) {
+                StepScreenshots.capture(stepName != null ? stepName : action + " " + elementName);
+            }
         }
+    }
 
+    /**
+     * Logs the success message, building it only if it is logged or reported.
+     *
+     * @return the message for the Allure step, or null if no step is reported
+     */
+    private static <T> String reportSuccess(Class<?> cls, Function<? super T, String> successMsg, T result) {
+        boolean log = LoggerUtils.isInfoEnabled(cls);
+        boolean step = AllureReporter.isActive();
+        if (!log && !step) {
+            return null;
+        }
+        String message = successMsg.apply(result);
+        if (log) {
+            LoggerUtils.info(cls, message);
+        }
+        return step ? message : null;
     }
 
+    /**
+     * Decides whether to retry a failed attempt, and sleeps for the backoff if so.
+     * <p>
+     * A refusal by the policy counts as a terminal error while attempts are left, and as exhausted attempts otherwise.
+     * </p>
+     *
+     * @return true if the action should be attempted again
+     */
+    private static boolean retry(RetryPolicy policy, Exception error, int attempt) {
+        if (!policy.isRetryable(error, attempt)) {
+            (attempt < policy.maxAttempts() ? TERMINAL_ERRORS : ATTEMPTS_EXHAUSTED).increment();
+            return false;
+        }
+        int[] budget = RETRY_BUDGET.get();
+        if (budget[0] <= 0) {
+            BUDGET_EXHAUSTED.increment();
+            return false;
+        }
+        budget[0]--;
+        RETRIES.increment();
+        try {
+            Thread.sleep(policy.backoff(attempt).toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        return true;
+    }
 }
@@ -0,0 +1,309 @@
+package com.evy.framework.utils;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.AllureResultsWriter;
+import io.qameta.allure.FileSystemResultsWriter;
+import io.qameta.allure.model.Status;
+import io.qameta.allure.model.StepResult;
+import io.qameta.allure.model.TestResult;
+import io.qameta.allure.model.TestResultContainer;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Buffered Allure reporting for steps and attachments.
+ * <p>
+ * While a test method runs, steps are built in memory on the test thread, keeping their nesting and timing, and
+ * handed to Allure in one batch when the method ends. Steps of configuration methods, and steps outside a method,
+ * are handed over as each top-level step finishes, because Allure stops a fixture in its own listener, whose order
+ * against ours is not fixed. Test results, containers and attachment files are written by a background writer,
+ * which is flushed when a test context finishes and drained on JVM shutdown.
+ * </p>
+ */
+public final class AllureReporter {
+
+    private static final ThreadLocal<Deque<Frame>> OPEN_STEPS = ThreadLocal.withInitial(ArrayDeque::new);
+    private static final ThreadLocal<List<StepResult>> FINISHED_STEPS = ThreadLocal.withInitial(ArrayList::new);
+
+    /**
+     * Whether the current thread is inside a test method (true), a configuration method (false), or neither (null).
+     */
+    private static final ThreadLocal<Boolean> BUFFERING_TEST = new ThreadLocal<>();
+
+    private static final ExecutorService WRITER = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "allure-results-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(AllureReporter::drainWrites, "allure-results-flush"));
+    }
+
+    private AllureReporter() {}
+
+    /**
+     * Installs an Allure lifecycle whose test results and containers are written by the background writer.
+     * <p>
+     * Must run before Allure's TestNG listener is created, since the listener keeps the lifecycle it starts with.
+     * </p>
+     */
+    public static void installBackgroundWriter() {
+        Allure.setLifecycle(new AllureLifecycle(new BackgroundResultsWriter(new FileSystemResultsWriter(resultsDirectory()))));
+    }
+
+    /**
+     * Checks if steps reported now would reach the Allure report.
+     *
+     * @return true if a method is being buffered or an Allure test case is running
+     */
+    public static boolean isActive() {
+        return BUFFERING_TEST.get() != null || Allure.getLifecycle().getCurrentTestCase().isPresent();
+    }
+
+    /**
+     * Starts buffering the steps of a method.
+     *
+     * @param testMethod true for a test method, false for a configuration method
+     */
+    public static void beginMethod(boolean testMethod) {
+        BUFFERING_TEST.set(testMethod);
+        FINISHED_STEPS.get().clear();
+        OPEN_STEPS.get().clear();
+    }
+
+    /**
+     * Hands the buffered steps of the current method to Allure in one batch and stops buffering.
+     */
+    public static void endMethod() {
+        Boolean testMethod = BUFFERING_TEST.get();
+        try {
+            flush(testMethod == null || testMethod);
+        } finally {
+            BUFFERING_TEST.remove();
+            OPEN_STEPS.get().clear();
+        }
+    }
+
+    /**
+     * Opens a step on the current thread. Steps opened before it is closed become its children.
+     */
+    public static void startStep() {
+        OPEN_STEPS.get().push(new Frame(System.currentTimeMillis()));
+    }
+
+    /**
+     * Closes the innermost open step.
+     *
+     * @param name   the step name, or null to drop the step and its children
+     * @param status the step status
+     */
+    public static void stopStep(String name, Status status) {
+        Deque<Frame> open = OPEN_STEPS.get();
+        Frame frame = open.poll();
+        if (frame == null || name == null) {
+            return;
+        }
+        StepResult step = new StepResult()
+                .setName(name)
+                .setStatus(status)
+                .setStart(frame.start)
+                .setStop(System.currentTimeMillis())
+                .setSteps(frame.children);
+        Frame parent = open.peek();
+        if (parent != null) {
+            parent.children.add(step);
+        } else {
+            FINISHED_STEPS.get().add(step);
+            Boolean testMethod = BUFFERING_TEST.get();
+            if (!Boolean.TRUE.equals(testMethod)) {
+                flush(testMethod == null);
+            }
+        }
+    }
+
+    /**
+     * Reports a step without children that starts and ends now.
+     *
+     * @param name   the step name
+     * @param status the step status
+     */
+    public static void step(String name, Status status) {
+        startStep();
+        stopStep(name, status);
+    }
+
+    /**
+     * Links an attachment to the current test or step and publishes its content through the {@link ArtifactStore}
+     * in the background. The attachment keeps its own type and extension, so Allure can show text inline.
+     *
+     * @param name          the attachment name
+     * @param type          the MIME type
+     * @param fileExtension the file extension, including the dot
+     * @param content       the attachment content
+     */
+    public static void attach(String name, String type, String fileExtension, byte[] content) {
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        String source = lifecycle.prepareAttachment(name, type, fileExtension);
+        WRITER.execute(() -> {
+            try {
+                ArtifactStore.save(content, name, type, resultsDirectory().resolve(source));
+            } catch (IOException e) {
+                LoggerUtils.error(AllureReporter.class, "Failed to write Allure attachment " + name, e);
+            }
+        });
+    }
+
+    /**
+     * Links an attachment to the current test or step like {@link #attach(String, String, String, byte[])}, and
+     * also publishes a gzipped copy of the content through the {@link ArtifactStore}, in the background.
+     *
+     * @param name           the attachment name
+     * @param type           the MIME type, a text type
+     * @param fileExtension  the file extension, including the dot
+     * @param content        the attachment content
+     * @param compressedCopy the path the gzipped copy is published at
+     */
+    public static void attach(String name, String type, String fileExtension, byte[] content, Path compressedCopy) {
+        attach(name, type, fileExtension, content);
+        WRITER.execute(() -> {
+            try {
+                ArtifactStore.saveCompressed(content, name, type, compressedCopy);
+            } catch (IOException e) {
+                LoggerUtils.error(AllureReporter.class, "Failed to write compressed copy of " + name + " to " + compressedCopy, e);
+            }
+        });
+    }
+
+    /**
+     * Gets the directory Allure writes its results to.
+     *
+     * @return the Allure results directory
+     */
+    static Path resultsDirectory() {
+        return Paths.get(System.getProperty("allure.results.directory", "allure-results"));
+    }
+
+    /**
+     * Waits until all results and attachments queued so far have been written.
+     */
+    public static void flushWrites() {
+        try {
+            WRITER.submit(() -> { }).get(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException | RejectedExecutionException e) {
+            LoggerUtils.error(AllureReporter.class, "Failed to flush pending Allure results", e);
+        }
+    }
+
+    private static void flush(boolean testMethod) {
+        List<StepResult> finished = FINISHED_STEPS.get();
+        if (finished.isEmpty()) {
+            return;
+        }
+        List<StepResult> batch = new ArrayList<>(finished);
+        finished.clear();
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        if (lifecycle.getCurrentTestCase().isEmpty()) {
+            return;
+        }
+        if (testMethod) {
+            lifecycle.updateTestCase(result -> result.getSteps().addAll(batch));
+        } else {
+            lifecycle.updateFixture(result -> result.getSteps().addAll(batch));
+        }
+    }
+
+    /**
+     * Runs a write on the background writer, or on the calling thread once the writer has shut down.
+     */
+    private static void write(String what, Runnable write) {
+        Runnable logged = () -> {
+            try {
+                write.run();
+            } catch (RuntimeException e) {
+                LoggerUtils.error(AllureReporter.class, "Failed to write Allure " + what, e);
+            }
+        };
+        try {
+            WRITER.execute(logged);
+        } catch (RejectedExecutionException e) {
+            logged.run();
+        }
+    }
+
+    private static void drainWrites() {
+        WRITER.shutdown();
+        try {
+            if (!WRITER.awaitTermination(30, TimeUnit.SECONDS)) {
+                LoggerUtils.error(AllureReporter.class, "Timed out writing pending Allure results", null);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Results writer that hands every write to the background writer. A test result carries the whole step tree
+     * of its test, so the steps of a test are written in one batch, off the test thread.
+     */
+    private static final class BackgroundResultsWriter implements AllureResultsWriter {
+
+        private final AllureResultsWriter delegate;
+
+        private BackgroundResultsWriter(AllureResultsWriter delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(TestResult testResult) {
+            AllureReporter.write("test result " + testResult.getName(), () -> delegate.write(testResult));
+        }
+
+        @Override
+        public void write(TestResultContainer testResultContainer) {
+            AllureReporter.write("container " + testResultContainer.getName(), () -> delegate.write(testResultContainer));
+        }
+
+        @Override
+        public void write(String source, InputStream attachment) {
+            byte[] content;
+            try (attachment) {
+                content = attachment.readAllBytes();
+            } catch (IOException e) {
+                LoggerUtils.error(AllureReporter.class, "Failed to read Allure attachment " + source, e);
+                return;
+            }
+            AllureReporter.write("attachment " + source, () -> delegate.write(source, new ByteArrayInputStream(content)));
+        }
+    }
+
+    /**
+     * An open step: its start time and the children closed so far.
+     */
+    private static final class Frame {
+
+        private final long start;
+        private final List<StepResult> children = new ArrayList<>();
+
+        private Frame(long start) {
+            this.start = start;
+        }
+    }
+}
@@ -0,0 +1,296 @@
+package com.evy.framework.utils;
+
+import com.evy.framework.config.ConfigManager;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Local content-addressable store for run artifacts such as screenshots, DOM snapshots and test logs.
+ * <p>
+ * Each artifact is stored once as a blob named by the SHA-256 of its content, so identical failure screens
+ * across data rows and runs take the space of one. Text content is gzipped; images are stored as they are.
+ * Every run appends its artifacts to its own manifest. Reports reference an image blob through a hard link
+ * instead of a copy where the file system allows it; text is published uncompressed, with its own type and
+ * extension, so reports can show it inline. On first use, runs older than the configured age are deleted,
+ * then the oldest runs until the store fits the configured size, and finally blobs no manifest refers to.
+ * </p>
+ */
+public final class ArtifactStore {
+
+    private static final String MANIFEST = "manifest.tsv";
+    private static final String RUN_ID = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"))
+            + "-" + ProcessHandle.current().pid();
+
+    private static volatile boolean initialized;
+    private static volatile Path rootOverride;
+
+    private ArtifactStore() {}
+
+    /**
+     * Checks if artifacts go through the store.
+     *
+     * @return true if the artifact store is enabled
+     */
+    public static boolean isEnabled() {
+        return ConfigManager.get().artifactStoreEnabled();
+    }
+
+    /**
+     * Stores an artifact and publishes it at the target path.
+     * <p>
+     * The content is always published as it is. Text is kept gzipped in the store and written out in full at
+     * the target; other content is linked to its blob. With the store disabled, the content is only written
+     * to the target.
+     * </p>
+     *
+     * @param content the artifact content
+     * @param name    a descriptive name recorded in the run manifest
+     * @param type    the MIME type of the content
+     * @param target  the path the artifact is published at
+     * @throws IOException if the artifact cannot be stored or published
+     */
+    public static void save(byte[] content, String name, String type, Path target) throws IOException {
+        Files.createDirectories(target.toAbsolutePath().getParent());
+        if (!isEnabled()) {
+            Files.write(target, content);
+            return;
+        }
+        Path blob = put(content, name, type);
+        if (isCompressible(type)) {
+            Files.write(target, content);
+        } else {
+            link(blob, target);
+        }
+    }
+
+    /**
+     * Publishes a gzipped copy of a text artifact at the target path, for archives that are searched with
+     * {@code zgrep} rather than viewed. With the store enabled, the target is linked to the artifact's blob,
+     * which is already gzipped; otherwise the content is gzipped straight to the target.
+     *
+     * @param content the artifact content
+     * @param name    a descriptive name recorded in the run manifest
+     * @param type    the MIME type of the content, a text type
+     * @param target  the path the gzipped artifact is published at
+     * @throws IOException if the artifact cannot be stored or published
+     */
+    public static void saveCompressed(byte[] content, String name, String type, Path target) throws IOException {
+        Files.createDirectories(target.toAbsolutePath().getParent());
+        if (isEnabled() && isCompressible(type)) {
+            link(put(content, name, type), target);
+            return;
+        }
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(target))) {
+            out.write(content);
+        }
+    }
+
+    /**
+     * Stores an artifact and records it in the manifest of the current run.
+     *
+     * @param content the artifact content
+     * @param name    a descriptive name recorded in the run manifest
+     * @param type    the MIME type of the content
+     * @return the blob path
+     * @throws IOException if the artifact cannot be stored
+     */
+    public static Path put(byte[] content, String name, String type) throws IOException {
+        initialize();
+        String hash = sha256(content);
+        boolean compress = isCompressible(type);
+        Path blob = root().resolve("blobs").resolve(hash.substring(0, 2)).resolve(hash + (compress ? ".gz" : ""));
+        if (!Files.exists(blob)) {
+            Files.createDirectories(blob.getParent());
+            Path tmp = blob.resolveSibling(hash + "-" + UUID.randomUUID() + ".tmp");
+            try (OutputStream out = compress ? new GZIPOutputStream(Files.newOutputStream(tmp)) : Files.newOutputStream(tmp)) {
+                out.write(content);
+            }
+            try {
+                Files.move(tmp, blob, StandardCopyOption.ATOMIC_MOVE);
+            } catch (FileAlreadyExistsException e) {
+                Files.deleteIfExists(tmp);
+            }
+        }
+        appendToManifest(hash, content.length, type, name, blob);
+        return blob;
+    }
+
+    private static void link(Path blob, Path target) throws IOException {
+        Files.deleteIfExists(target);
+        try {
+            Files.createLink(target, blob);
+        } catch (IOException | UnsupportedOperationException e) {
+            Files.copy(blob, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static boolean isCompressible(String type) {
+        return type.startsWith("text/") || type.endsWith("json") || type.endsWith("xml");
+    }
+
+    private static synchronized void appendToManifest(String hash, int size, String type, String name, Path blob) throws IOException {
+        Path manifest = root().resolve("runs").resolve(RUN_ID).resolve(MANIFEST);
+        Files.createDirectories(manifest.getParent());
+        try (Writer writer = Files.newBufferedWriter(manifest, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            writer.write(String.join("\t", hash, Integer.toString(size), type,
+                    root().relativize(blob).toString(), name.replaceAll("[\\t\\r\\n]", " ")));
+            writer.write('\n');
+        }
+    }
+
+    private static Path root() {
+        Path override = rootOverride;
+        if (override != null) {
+            return override;
+        }
+        return Paths.get(System.getProperty("user.home")).resolve(ConfigManager.get().artifactStoreDir());
+    }
+
+    /**
+     * Points the store at another root directory, so unit tests do not touch the store under the user home.
+     * The garbage collection runs again on the next use of the new root.
+     *
+     * @param root the store root, or null to go back to the configured directory under the user home
+     */
+    static synchronized void useRoot(Path root) {
+        rootOverride = root;
+        initialized = false;
+    }
+
+    private static void initialize() {
+        if (initialized) {
+            return;
+        }
+        synchronized (ArtifactStore.class) {
+            if (!initialized) {
+                try {
+                    collectGarbage();
+                } catch (IOException | UncheckedIOException e) {
+                    LoggerUtils.error(ArtifactStore.class, "Failed to clean up artifact store " + root(), e);
+                }
+                initialized = true;
+            }
+        }
+    }
+
+    /**
+     * Deletes runs older than the maximum age, then the oldest runs until the blobs fit the maximum size,
+     * then every blob no remaining manifest refers to.
+     */
+    private static void collectGarbage() throws IOException {
+        Path runsDir = root().resolve("runs");
+        Path blobsDir = root().resolve("blobs");
+        if (!Files.isDirectory(runsDir)) {
+            return;
+        }
+        List<Path> runs = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(runsDir)) {
+            stream.forEach(runs::add);
+        }
+        runs.sort(Comparator.comparing(ArtifactStore::lastModified));
+        Instant cutoff = Instant.now().minus(Duration.ofDays(ConfigManager.get().artifactMaxAgeDays()));
+        long maxBytes = ConfigManager.get().artifactMaxSizeMb() * 1024L * 1024L;
+        long totalBytes = size(blobsDir);
+        int deleted = 0;
+        while (!runs.isEmpty() && (lastModified(runs.get(0)).isBefore(cutoff) || totalBytes > maxBytes)) {
+            deleteTree(runs.remove(0));
+            deleted++;
+            if (totalBytes > maxBytes) {
+                sweep(blobsDir, runs);
+                totalBytes = size(blobsDir);
+            }
+        }
+        if (deleted > 0) {
+            sweep(blobsDir, runs);
+            LoggerUtils.info(ArtifactStore.class, "Removed " + deleted + " old runs from artifact store " + root());
+        }
+    }
+
+    private static void sweep(Path blobsDir, List<Path> runs) throws IOException {
+        Set<String> live = new HashSet<>();
+        for (Path run : runs) {
+            Path manifest = run.resolve(MANIFEST);
+            if (Files.exists(manifest)) {
+                try (Stream<String> lines = Files.lines(manifest, StandardCharsets.UTF_8)) {
+                    lines.map(line -> line.split("\t")).filter(fields -> fields.length > 3).forEach(fields -> live.add(fields[3]));
+                }
+            }
+        }
+        if (!Files.isDirectory(blobsDir)) {
+            return;
+        }
+        try (Stream<Path> blobs = Files.walk(blobsDir)) {
+            for (Path blob : blobs.filter(Files::isRegularFile).toList()) {
+                if (!live.contains(root().relativize(blob).toString())) {
+                    Files.deleteIfExists(blob);
+                }
+            }
+        }
+    }
+
+    private static long size(Path dir) throws IOException {
+        if (!Files.isDirectory(dir)) {
+            return 0;
+        }
+        try (Stream<Path> files = Files.walk(dir)) {
+            return files.filter(Files::isRegularFile).mapToLong(file -> {
+                try {
+                    return Files.size(file);
+                } catch (IOException e) {
+                    return 0;
+                }
+            }).sum();
+        }
+    }
+
+    private static Instant lastModified(Path path) {
+        try {
+            return Files.getLastModifiedTime(path).toInstant();
+        } catch (IOException e) {
+            return Instant.EPOCH;
+        }
+    }
+
+    private static void deleteTree(Path dir) throws IOException {
+        try (Stream<Path> paths = Files.walk(dir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    static String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -1,6 +1,6 @@
 package com.evy.framework.utils;
 
-import io.qameta.allure.Allure;
+import io.qameta.allure.model.Status;
 
 /**
  * Utility class for performing assertions with logging capabilities.
@@ -81,7 +81,7 @@ public class AssertionUtils {
      * @param description The description of the assertion.
      */
     private static void logSuccess(String description) {
-        Allure.step(description + ": Passed");
+        AllureReporter.step(description + ": Passed", Status.PASSED);
         LoggerUtils.info(AssertionUtils.class, description + ": passed");
     }
 
@@ -91,7 +91,7 @@ public class AssertionUtils {
      * @param description The description of the assertion.
      */
     private static void logFailure(String description) {
-        Allure.step(description + ": Failed");
+        AllureReporter.step(description + ": Failed", Status.FAILED);
         LoggerUtils.error(AssertionUtils.class, description + ": Failed",null);
     }
 }
\ No newline at end of file
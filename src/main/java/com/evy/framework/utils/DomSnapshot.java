@@ -0,0 +1,48 @@
+package com.evy.framework.utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Captures a serialized snapshot of the current page in a single script call.
+ * <p>
+ * The snapshot is the page's HTML with scripts, styles and inline images removed. Key elements,
+ * which are links, form controls, labels, messages and anything with an id, carry a {@code data-evy-visible}
+ * attribute holding their computed visibility at capture time, so locators can be checked against the
+ * snapshot with a plain text search. The page URL and title are recorded in a leading comment.
+ * </p>
+ */
+public final class DomSnapshot {
+
+    private static final String SNAPSHOT_SCRIPT =
+            "var key = 'a,button,input,select,textarea,label,option,[id],[data-ui-id],[role],[generated],.message,.page-title';" +
+            "function visible(el) {" +
+            "  var style = window.getComputedStyle(el), rect = el.getBoundingClientRect();" +
+            "  return style.visibility !== 'hidden' && style.display !== 'none' && rect.width > 0 && rect.height > 0;" +
+            "}" +
+            "var originals = document.documentElement.querySelectorAll('*');" +
+            "var clone = document.documentElement.cloneNode(true);" +
+            "var copies = clone.querySelectorAll('*');" +
+            "for (var i = 0; i < originals.length && i < copies.length; i++) {" +
+            "  var el = originals[i], copy = copies[i];" +
+            "  if (el.matches(key)) { copy.setAttribute('data-evy-visible', visible(el)); }" +
+            "  if ((el.tagName === 'INPUT' || el.tagName === 'TEXTAREA') && el.type !== 'password') { copy.setAttribute('value', el.value); }" +
+            "  if (el.tagName === 'OPTION' && el.selected) { copy.setAttribute('selected', 'selected'); }" +
+            "}" +
+            "clone.querySelectorAll('script,style,noscript,svg,template').forEach(function (node) { node.remove(); });" +
+            "clone.querySelectorAll('img[src^=\"data:\"]').forEach(function (node) { node.removeAttribute('src'); });" +
+            "return '<!-- ' + location.href.replace(/--/g, '') + ' | ' + document.title.replace(/--/g, '') + ' -->\\n'" +
+            "  + '<!DOCTYPE html>\\n' + clone.outerHTML;";
+
+    private DomSnapshot() {}
+
+    /**
+     * Captures the current page of a driver.
+     *
+     * @param driver the WebDriver to capture
+     * @return the serialized page
+     */
+    public static String capture(WebDriver driver) {
+        return String.valueOf(((JavascriptExecutor) driver).executeScript(SNAPSHOT_SCRIPT));
+    }
+}
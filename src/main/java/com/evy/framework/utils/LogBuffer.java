@@ -0,0 +1,79 @@
+package com.evy.framework.utils;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Bounded in-memory ring buffer holding the log messages of one test.
+ * <p>
+ * Messages are stored unformatted and only rendered if the test fails. Once the buffer is full,
+ * the oldest messages are dropped and counted.
+ * </p>
+ */
+public final class LogBuffer {
+
+    private static final DateTimeFormatter TIMESTAMP =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS").withZone(ZoneId.systemDefault());
+
+    private final int capacity;
+    private final String threadName = Thread.currentThread().getName();
+    private final Deque<Entry> entries = new ArrayDeque<>();
+    private long dropped;
+
+    /**
+     * Creates an empty buffer.
+     *
+     * @param capacity the maximum number of messages kept
+     */
+    public LogBuffer(int capacity) {
+        this.capacity = Math.max(1, capacity);
+    }
+
+    /**
+     * Adds a message, dropping the oldest one if the buffer is full.
+     *
+     * @param level the log level
+     * @param cls   the class that logged the message
+     * @param msg   the message
+     * @param t     the exception logged with the message, or null
+     */
+    synchronized void append(String level, Class<?> cls, String msg, Throwable t) {
+        if (entries.size() == capacity) {
+            entries.removeFirst();
+            dropped++;
+        }
+        entries.addLast(new Entry(System.currentTimeMillis(), level, cls.getName(), msg, t));
+    }
+
+    /**
+     * Renders the buffered messages in the console layout.
+     *
+     * @return the rendered log
+     */
+    public synchronized String render() {
+        StringBuilder log = new StringBuilder();
+        if (dropped > 0) {
+            log.append("... ").append(dropped).append(" earlier messages dropped").append(System.lineSeparator());
+        }
+        for (Entry entry : entries) {
+            log.append(TIMESTAMP.format(Instant.ofEpochMilli(entry.timestamp())))
+                    .append(" [").append(threadName).append("] ")
+                    .append(String.format("%-5s", entry.level()))
+                    .append(' ').append(entry.logger())
+                    .append(" - ").append(entry.msg())
+                    .append(System.lineSeparator());
+            for (Throwable cause = entry.throwable(); cause != null; cause = cause.getCause()) {
+                log.append(cause == entry.throwable() ? "" : "Caused by: ").append(cause).append(System.lineSeparator());
+                for (StackTraceElement frame : cause.getStackTrace()) {
+                    log.append("\tat ").append(frame).append(System.lineSeparator());
+                }
+            }
+        }
+        return log.toString();
+    }
+
+    private record Entry(long timestamp, String level, String logger, String msg, Throwable throwable) {}
+}
@@ -1,12 +1,14 @@
 package com.evy.framework.utils;
 
+import com.evy.framework.config.ConfigManager;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 /**
  * Utility class for logging messages using Log4j2.
  * <p>
- * Provides static methods to log informational and error messages consistently.
+ * Provides static methods to log informational and error messages consistently. With failure-only logging,
+ * the informational messages of a running test are kept in a {@link LogBuffer} instead of being written.
  * </p>
  */
 public final class LoggerUtils {
@@ -16,6 +18,11 @@ public final class LoggerUtils {
      */
     private static final Logger logger = LogManager.getLogger(LoggerUtils.class);
 
+    /**
+     * Ring buffer of the test running on the current thread, if failure-only logging is enabled.
+     */
+    private static final ThreadLocal<LogBuffer> TEST_BUFFER = new ThreadLocal<>();
+
     /**
      * Private constructor to prevent instantiation.
      */
@@ -38,7 +45,22 @@ public final class LoggerUtils {
      * @param msg the message to log
      */
     public static void info(Class<?> cls, String msg) {
-        getLogger(cls).info(msg);
+        LogBuffer buffer = TEST_BUFFER.get();
+        if (buffer != null) {
+            buffer.append("INFO", cls, msg, null);
+        } else {
+            getLogger(cls).info(msg);
+        }
+    }
+
+    /**
+     * Checks if informational messages are logged for the specified class.
+     *
+     * @param cls the class to check
+     * @return true if info logging is enabled
+     */
+    public static boolean isInfoEnabled(Class<?> cls) {
+        return TEST_BUFFER.get() != null || getLogger(cls).isInfoEnabled();
     }
 
     /**
@@ -49,6 +71,35 @@ public final class LoggerUtils {
      * @param t   the exception to log
      */
     public static void error(Class<?> cls, String msg, Throwable t) {
+        LogBuffer buffer = TEST_BUFFER.get();
+        if (buffer != null) {
+            buffer.append("ERROR", cls, msg, t);
+        }
         getLogger(cls).error(msg, t);
     }
+
+    /**
+     * Starts buffering the informational messages of the current thread, if failure-only logging is enabled.
+     * <p>
+     * Buffered messages are not written to the console. Errors are still written straight away and also buffered.
+     * </p>
+     *
+     * @return the new buffer, or null if failure-only logging is disabled
+     */
+    public static LogBuffer startTestBuffer() {
+        if (!ConfigManager.get().failureOnlyLogging()) {
+            TEST_BUFFER.remove();
+            return null;
+        }
+        LogBuffer buffer = new LogBuffer(ConfigManager.get().testLogBufferSize());
+        TEST_BUFFER.set(buffer);
+        return buffer;
+    }
+
+    /**
+     * Stops buffering the messages of the current thread.
+     */
+    public static void endTestBuffer() {
+        TEST_BUFFER.remove();
+    }
 }
@@ -0,0 +1,37 @@
+package com.evy.framework.utils;
+
+import java.time.Duration;
+
+/**
+ * Decides whether a failed action is retried by {@link ActionUtils}, and how long to wait before the next attempt.
+ * <p>
+ * The default policy is {@link TransientErrorRetryPolicy}. A different policy can be installed with
+ * {@link ActionUtils#setRetryPolicy(RetryPolicy)}.
+ * </p>
+ */
+public interface RetryPolicy {
+
+    /**
+     * Gets the maximum number of attempts for one action, including the first one.
+     *
+     * @return the maximum number of attempts
+     */
+    int maxAttempts();
+
+    /**
+     * Checks if an action that failed with the given error should be attempted again.
+     *
+     * @param error   the error thrown by the failed attempt
+     * @param attempt the number of the attempt that failed, starting at 1
+     * @return true if the action should be retried
+     */
+    boolean isRetryable(Throwable error, int attempt);
+
+    /**
+     * Gets the delay before the next attempt.
+     *
+     * @param attempt the number of the attempt that failed, starting at 1
+     * @return the delay before the next attempt
+     */
+    Duration backoff(int attempt);
+}
@@ -0,0 +1,229 @@
+package com.evy.framework.utils;
+
+import com.evy.framework.config.ConfigManager;
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.model.Attachment;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Off-thread pipeline that turns raw screenshots into small JPEG attachments.
+ * <p>
+ * The test thread only hashes the raw bytes and links the attachment to the running Allure test. Decoding,
+ * downscaling, JPEG encoding and publishing the file into the Allure results directory through the
+ * {@link ArtifactStore} happen on a bounded executor. Identical screenshots are linked to the file already
+ * written: the first caller claims the hash before queueing the encode, and the claim is released if the encode
+ * is rejected or fails. When the queue is full, the screenshot is dropped instead of blocking the test.
+ * </p>
+ */
+public final class ScreenshotPipeline {
+
+    private static final ThreadPoolExecutor ENCODER = newEncoder();
+    private static final Map<String, String> SOURCES_BY_HASH = new ConcurrentHashMap<>();
+    private static final LongAdder WRITTEN = new LongAdder();
+    private static final LongAdder DEDUPLICATED = new LongAdder();
+    private static final LongAdder DROPPED = new LongAdder();
+    private static final Object PENDING_LOCK = new Object();
+    private static int pending;
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(ScreenshotPipeline::drain, "screenshot-pipeline-flush"));
+    }
+
+    private ScreenshotPipeline() {}
+
+    /**
+     * Queues a screenshot for encoding and links it to the running Allure test.
+     *
+     * @param name the attachment name
+     * @param png  the raw screenshot, as PNG or JPEG
+     * @return true if the screenshot was linked, false if it was dropped
+     */
+    public static boolean attach(String name, byte[] png) {
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        if (lifecycle.getCurrentTestCase().isEmpty()) {
+            return false;
+        }
+        String hash = ArtifactStore.sha256(png);
+        String newSource = UUID.randomUUID() + "-screenshot.jpg";
+        String source = SOURCES_BY_HASH.putIfAbsent(hash, newSource);
+        if (source != null) {
+            DEDUPLICATED.increment();
+        } else {
+            source = newSource;
+            taskStarted();
+            try {
+                ENCODER.execute(() -> {
+                    try {
+                        encode(png, name, hash, newSource);
+                    } finally {
+                        taskFinished();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                SOURCES_BY_HASH.remove(hash, newSource);
+                taskFinished();
+                DROPPED.increment();
+                LoggerUtils.info(ScreenshotPipeline.class, "Screenshot queue is full, dropped " + name);
+                return false;
+            }
+        }
+        Attachment attachment = new Attachment().setName(name).setSource(source).setType("image/jpeg");
+        lifecycle.updateTestCase(result -> result.getAttachments().add(attachment));
+        return true;
+    }
+
+    /**
+     * Waits until all queued screenshots have been written.
+     */
+    public static void flush() {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        synchronized (PENDING_LOCK) {
+            long remaining;
+            while (pending > 0 && (remaining = deadline - System.nanoTime()) > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.timedWait(PENDING_LOCK, remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Builds a summary of how many screenshots were written, deduplicated and dropped.
+     *
+     * @return the screenshot summary
+     */
+    public static String summary() {
+        return "Screenshots written: " + WRITTEN.sum()
+                + ", deduplicated: " + DEDUPLICATED.sum()
+                + ", dropped under load: " + DROPPED.sum();
+    }
+
+    private static void taskStarted() {
+        synchronized (PENDING_LOCK) {
+            pending++;
+        }
+    }
+
+    private static void taskFinished() {
+        synchronized (PENDING_LOCK) {
+            if (--pending == 0) {
+                PENDING_LOCK.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Encodes and writes a screenshot. On failure, releases the hash so a later identical screenshot is written
+     * again instead of being linked to the missing file.
+     */
+    private static void encode(byte[] png, String name, String hash, String source) {
+        Path file = AllureReporter.resultsDirectory().resolve(source);
+        try {
+            BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+            if (image == null) {
+                throw new IOException("Unreadable screenshot");
+            }
+            ByteArrayOutputStream jpeg = new ByteArrayOutputStream(png.length / 4);
+            writeJpeg(downscale(image, ConfigManager.get().screenshotMaxWidth()), jpeg, ConfigManager.get().screenshotJpegQuality());
+            ArtifactStore.save(jpeg.toByteArray(), name, "image/jpeg", file);
+            WRITTEN.increment();
+        } catch (IOException | RuntimeException e) {
+            SOURCES_BY_HASH.remove(hash, source);
+            LoggerUtils.error(ScreenshotPipeline.class, "Failed to write screenshot " + file, e);
+        }
+    }
+
+    /**
+     * Scales an image down to a maximum width, keeping its aspect ratio. Also drops the alpha channel,
+     * which JPEG cannot store.
+     *
+     * @param image    the image to scale
+     * @param maxWidth the maximum width in pixels
+     * @return the scaled image
+     */
+    static BufferedImage downscale(BufferedImage image, int maxWidth) {
+        double scale = image.getWidth() > maxWidth && maxWidth > 0 ? (double) maxWidth / image.getWidth() : 1.0;
+        int width = Math.max(1, (int) Math.round(image.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(image.getHeight() * scale));
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = scaled.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return scaled;
+    }
+
+    /**
+     * Encodes an image as JPEG straight into an output stream.
+     *
+     * @param image   the image to encode
+     * @param out     the stream to write to
+     * @param quality the JPEG quality, from 0 to 1
+     * @throws IOException if the image cannot be written
+     */
+    static void writeJpeg(BufferedImage image, OutputStream out, float quality) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream imageOut = ImageIO.createImageOutputStream(out)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(Math.max(0f, Math.min(1f, quality)));
+            writer.setOutput(imageOut);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    private static ThreadPoolExecutor newEncoder() {
+        AtomicInteger count = new AtomicInteger();
+        int threads = Math.max(1, ConfigManager.get().screenshotThreads());
+        return new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, ConfigManager.get().screenshotQueueSize())),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "screenshot-encoder-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    private static void drain() {
+        ENCODER.shutdown();
+        try {
+            if (!ENCODER.awaitTermination(30, TimeUnit.SECONDS)) {
+                LoggerUtils.error(ScreenshotPipeline.class, "Timed out writing pending screenshots", null);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
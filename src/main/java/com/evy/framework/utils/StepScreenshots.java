@@ -0,0 +1,162 @@
+package com.evy.framework.utils;
+
+import com.evy.framework.config.ConfigManager;
+import com.evy.framework.drivers.Driver;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.HasCdp;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Base64;
+import java.util.Map;
+
+/**
+ * Opt-in rolling buffer of viewport screenshots taken after each page action of a test.
+ * <p>
+ * Each test thread keeps the screenshots of its last few top-level actions in a fixed-size ring. Frames enter
+ * the ring already scaled down to {@code screenshotMaxWidth} and JPEG-encoded: Chromium browsers render them that
+ * way through the DevTools protocol, and other browsers' PNGs are scaled and encoded on the test thread. If the
+ * test fails, the ring is handed to the {@link ScreenshotPipeline}; if it passes, the ring is cleared. Memory use
+ * is bounded by the ring size times the size of a small frame times the number of test threads.
+ * </p>
+ */
+public final class StepScreenshots {
+
+    private static final ThreadLocal<Ring> RING = new ThreadLocal<>();
+
+    private StepScreenshots() {}
+
+    /**
+     * Starts a new ring for the test on the current thread, if step screenshots are enabled.
+     */
+    public static void start() {
+        if (ConfigManager.get().stepScreenshots()) {
+            RING.set(new Ring(ConfigManager.get().stepScreenshotBufferSize(), ConfigManager.get().stepScreenshotInterval()));
+        } else {
+            RING.remove();
+        }
+    }
+
+    /**
+     * Captures the viewport after a top-level action, if step screenshots are enabled for the current thread.
+     * Capture errors are ignored, as the screenshot is only diagnostic.
+     *
+     * @param label describes the action that just ran
+     */
+    static void capture(String label) {
+        Ring ring = RING.get();
+        if (ring == null || !ring.isDue()) {
+            return;
+        }
+        WebDriver driver = Driver.getInstance().getDriver();
+        if (!(driver instanceof TakesScreenshot screenshotDriver)) {
+            return;
+        }
+        try {
+            ring.add(label, driver instanceof HasCdp cdpDriver ? captureScaled(cdpDriver) : scale(screenshotDriver.getScreenshotAs(OutputType.BYTES)));
+        } catch (WebDriverException | IOException e) {
+            // The page or session may be gone; the failure itself is reported by the action
+        }
+    }
+
+    /**
+     * Has the browser render the visible viewport as a JPEG no wider than the configured screenshot width.
+     */
+    @SuppressWarnings("unchecked")
+    private static byte[] captureScaled(HasCdp driver) {
+        Map<String, Object> viewport = (Map<String, Object>) driver.executeCdpCommand("Page.getLayoutMetrics", Map.of()).get("cssVisualViewport");
+        double width = ((Number) viewport.get("clientWidth")).doubleValue();
+        int maxWidth = ConfigManager.get().screenshotMaxWidth();
+        Map<String, Object> clip = Map.of(
+                "x", viewport.get("pageX"),
+                "y", viewport.get("pageY"),
+                "width", width,
+                "height", viewport.get("clientHeight"),
+                "scale", width > maxWidth && maxWidth > 0 ? maxWidth / width : 1.0);
+        Map<String, Object> screenshot = driver.executeCdpCommand("Page.captureScreenshot", Map.of(
+                "format", "jpeg",
+                "quality", Math.round(ConfigManager.get().screenshotJpegQuality() * 100),
+                "clip", clip));
+        return Base64.getDecoder().decode((String) screenshot.get("data"));
+    }
+
+    /**
+     * Scales a PNG screenshot down to the configured width and encodes it as JPEG.
+     */
+    private static byte[] scale(byte[] png) throws IOException {
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+        if (image == null) {
+            throw new IOException("Unreadable screenshot");
+        }
+        ByteArrayOutputStream jpeg = new ByteArrayOutputStream(png.length / 8);
+        ScreenshotPipeline.writeJpeg(ScreenshotPipeline.downscale(image, ConfigManager.get().screenshotMaxWidth()), jpeg,
+                ConfigManager.get().screenshotJpegQuality());
+        return jpeg.toByteArray();
+    }
+
+    /**
+     * Attaches the buffered screenshots of the failed test, oldest first, and clears the ring.
+     */
+    public static void attachOnFailure() {
+        Ring ring = RING.get();
+        RING.remove();
+        if (ring == null) {
+            return;
+        }
+        int step = 1;
+        for (Frame frame : ring.drain()) {
+            ScreenshotPipeline.attach("Step " + step++ + ": " + frame.label(), frame.image());
+        }
+    }
+
+    /**
+     * Discards the buffered screenshots of the current thread.
+     */
+    public static void discard() {
+        RING.remove();
+    }
+
+    record Frame(String label, byte[] image) {}
+
+    /**
+     * Fixed-size ring of the most recent frames.
+     */
+    static final class Ring {
+
+        private final Frame[] frames;
+        private final int interval;
+        private int next;
+        private int size;
+        private long actions;
+
+        Ring(int capacity, int interval) {
+            this.frames = new Frame[Math.max(1, capacity)];
+            this.interval = Math.max(1, interval);
+        }
+
+        boolean isDue() {
+            return actions++ % interval == 0;
+        }
+
+        void add(String label, byte[] image) {
+            frames[next] = new Frame(label, image);
+            next = (next + 1) % frames.length;
+            size = Math.min(size + 1, frames.length);
+        }
+
+        Frame[] drain() {
+            Frame[] ordered = new Frame[size];
+            int start = (next - size + frames.length) % frames.length;
+            for (int i = 0; i < size; i++) {
+                ordered[i] = frames[(start + i) % frames.length];
+            }
+            return ordered;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.evy.framework.utils;
+
+import com.evy.framework.config.ConfigManager;
+import org.openqa.selenium.ElementClickInterceptedException;
+import org.openqa.selenium.ElementNotInteractableException;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.SessionNotCreatedException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.interactions.MoveTargetOutOfBoundsException;
+import org.openqa.selenium.remote.UnreachableBrowserException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Default {@link RetryPolicy}, which only retries errors that a second attempt can fix.
+ * <p>
+ * Stale, intercepted and not-yet-interactable elements are transient: the page was still changing.
+ * Timeouts, missing elements, script errors and lost sessions are terminal: the explicit wait has already
+ * spent its whole timeout, the script is broken, or the browser is gone, so a retry only repeats the failure. The whole cause chain
+ * is checked, because page objects wrap driver exceptions. Delays grow exponentially with jitter.
+ * </p>
+ */
+public final class TransientErrorRetryPolicy implements RetryPolicy {
+
+    private static final List<Class<? extends Throwable>> TERMINAL_ERRORS = List.of(
+            TimeoutException.class,
+            NoSuchElementException.class,
+            JavascriptException.class,
+            NoSuchSessionException.class,
+            SessionNotCreatedException.class,
+            UnreachableBrowserException.class,
+            IllegalArgumentException.class,
+            IllegalStateException.class);
+
+    private static final List<Class<? extends Throwable>> TRANSIENT_ERRORS = List.of(
+            StaleElementReferenceException.class,
+            ElementClickInterceptedException.class,
+            ElementNotInteractableException.class,
+            MoveTargetOutOfBoundsException.class);
+
+    @Override
+    public int maxAttempts() {
+        return Math.max(1, ConfigManager.get().retryMaxAttempts());
+    }
+
+    @Override
+    public boolean isRetryable(Throwable error, int attempt) {
+        if (attempt >= maxAttempts() || matches(error, TERMINAL_ERRORS)) {
+            return false;
+        }
+        return matches(error, TRANSIENT_ERRORS);
+    }
+
+    @Override
+    public Duration backoff(int attempt) {
+        long base = ConfigManager.get().retryBaseDelayMillis();
+        long cap = ConfigManager.get().retryMaxDelayMillis();
+        long delay = Math.min(cap, base << Math.min(attempt - 1, 20));
+        long half = delay / 2;
+        return Duration.ofMillis(half + ThreadLocalRandom.current().nextLong(half + 1));
+    }
+
+    private static boolean matches(Throwable error, List<Class<? extends Throwable>> types) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            for (Class<? extends Throwable> type : types) {
+                if (type.isInstance(cause)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
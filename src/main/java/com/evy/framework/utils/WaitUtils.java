@@ -0,0 +1,213 @@
+package com.evy.framework.utils;
+
+import com.evy.framework.config.ConfigManager;
+import com.evy.framework.events.FrameworkEvents;
+import com.evy.framework.events.WaitEvent;
+import org.openqa.selenium.By;
+import org.openqa.selenium.ElementNotInteractableException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.FluentWait;
+import org.openqa.selenium.support.ui.Sleeper;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LongSummaryStatistics;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Utility class for waiting on browser conditions, shared by all page objects.
+ * <p>
+ * Waits poll on an exponential schedule that starts at a few milliseconds and is capped,
+ * so a condition that is met almost immediately costs almost nothing. An in-browser wait resolves
+ * through a MutationObserver in a single asynchronous script call. The time spent in every wait
+ * is recorded per element name, and every wait is emitted as a Flight Recorder {@link WaitEvent} when enabled.
+ * </p>
+ */
+public final class WaitUtils {
+
+    private static final String WAIT_FOR_SELECTOR_SCRIPT =
+            "var selector = arguments[0], timeout = arguments[1], done = arguments[arguments.length - 1];" +
+            "function visible() {" +
+            "  var el = document.querySelector(selector);" +
+            "  if (!el) { return false; }" +
+            "  var style = window.getComputedStyle(el), rect = el.getBoundingClientRect();" +
+            "  return style.visibility !== 'hidden' && style.display !== 'none' && rect.width > 0 && rect.height > 0;" +
+            "}" +
+            "if (visible()) { done(true); return; }" +
+            "var timer;" +
+            "var observer = new MutationObserver(function () {" +
+            "  if (visible()) { observer.disconnect(); clearTimeout(timer); done(true); }" +
+            "});" +
+            "observer.observe(document.documentElement, {childList: true, subtree: true, attributes: true, characterData: true});" +
+            "timer = setTimeout(function () { observer.disconnect(); done(visible()); }, timeout);";
+
+    private static final Map<String, LongSummaryStatistics> WAIT_MILLIS = new ConcurrentHashMap<>();
+
+    private WaitUtils() {}
+
+    /**
+     * Gets the default explicit wait timeout.
+     *
+     * @return the configured explicit wait timeout
+     */
+    public static Duration defaultTimeout() {
+        return Duration.ofSeconds(ConfigManager.get().explicitWaitTime());
+    }
+
+    /**
+     * Waits until a condition returns a non-null, non-false value.
+     * <p>
+     * Stale, missing and non-interactable elements are ignored while polling.
+     * </p>
+     *
+     * @param driver    the WebDriver to poll
+     * @param condition the condition to wait for
+     * @param timeout   the maximum time to wait
+     * @param name      the name of the element or condition, used to record the wait time
+     * @param <T>       the condition result type
+     * @return the condition result
+     * @throws org.openqa.selenium.TimeoutException if the condition is not met in time
+     */
+    public static <T> T waitUntil(WebDriver driver, Function<WebDriver, T> condition, Duration timeout, String name) {
+        long start = System.nanoTime();
+        WaitEvent event = FrameworkEvents.beginWait();
+        boolean satisfied = false;
+        try {
+            T result = new FluentWait<>(driver, Clock.systemDefaultZone(), new BackoffSleeper())
+                    .withTimeout(timeout)
+                    .ignoring(StaleElementReferenceException.class)
+                    .ignoring(ElementNotInteractableException.class)
+                    .ignoring(NoSuchElementException.class)
+                    .until(condition);
+            satisfied = true;
+            return result;
+        } finally {
+            record(name, System.nanoTime() - start);
+            event.complete(name, false, timeout, satisfied);
+        }
+    }
+
+    /**
+     * Waits for a WebElement to be visible.
+     *
+     * @param driver  the WebDriver to poll
+     * @param element the WebElement to wait for
+     * @param timeout the maximum time to wait
+     * @param name    the name of the element, used to record the wait time
+     * @return the visible WebElement
+     */
+    public static WebElement waitForVisible(WebDriver driver, WebElement element, Duration timeout, String name) {
+        return waitUntil(driver, ExpectedConditions.visibilityOf(element), timeout, name);
+    }
+
+    /**
+     * Waits for an element matching a locator to be visible.
+     * <p>
+     * The element is looked up on every poll, so this does not depend on the implicit wait.
+     * </p>
+     *
+     * @param driver  the WebDriver to poll
+     * @param locator the locator of the element
+     * @param timeout the maximum time to wait
+     * @param name    the name of the element, used to record the wait time
+     * @return the visible WebElement
+     */
+    public static WebElement waitForVisible(WebDriver driver, By locator, Duration timeout, String name) {
+        return waitUntil(driver, ExpectedConditions.visibilityOfElementLocated(locator), timeout, name);
+    }
+
+    /**
+     * Waits inside the browser for an element matching a CSS selector to become visible.
+     * <p>
+     * The wait resolves through a MutationObserver in a single asynchronous script call, so it costs one
+     * round-trip however long it takes. If the script is interrupted, for example by a navigation,
+     * the wait falls back to polling.
+     * </p>
+     *
+     * @param driver      the WebDriver to use
+     * @param cssSelector the CSS selector of the element
+     * @param timeout     the maximum time to wait
+     * @param name        the name of the element, used to record the wait time
+     * @return true if the element became visible in time
+     */
+    public static boolean waitInBrowser(WebDriver driver, String cssSelector, Duration timeout, String name) {
+        long start = System.nanoTime();
+        WaitEvent event = FrameworkEvents.beginWait();
+        boolean satisfied = false;
+        try {
+            Object visible = ((JavascriptExecutor) driver).executeAsyncScript(WAIT_FOR_SELECTOR_SCRIPT, cssSelector, timeout.toMillis());
+            record(name, System.nanoTime() - start);
+            satisfied = Boolean.TRUE.equals(visible);
+            return satisfied;
+        } catch (WebDriverException e) {
+            Duration remaining = timeout.minusNanos(System.nanoTime() - start);
+            if (remaining.isNegative()) {
+                record(name, System.nanoTime() - start);
+                return false;
+            }
+            try {
+                waitUntil(driver, ExpectedConditions.visibilityOfElementLocated(By.cssSelector(cssSelector)), remaining, name);
+            } catch (TimeoutException fallbackTimeout) {
+                return false;
+            }
+            satisfied = true;
+            return true;
+        } finally {
+            event.complete(name, true, timeout, satisfied);
+        }
+    }
+
+    /**
+     * Builds a summary of recorded wait times per element name.
+     *
+     * @return the wait time summary
+     */
+    public static String summary() {
+        StringBuilder summary = new StringBuilder("Wait times per element:");
+        new TreeMap<>(WAIT_MILLIS).forEach((name, stats) -> {
+            synchronized (stats) {
+                summary.append(System.lineSeparator())
+                        .append(name)
+                        .append(": waits ").append(stats.getCount())
+                        .append(", average ").append(Math.round(stats.getAverage())).append(" ms")
+                        .append(", max ").append(stats.getMax()).append(" ms")
+                        .append(", total ").append(stats.getSum()).append(" ms");
+            }
+        });
+        return summary.toString();
+    }
+
+    private static void record(String name, long elapsedNanos) {
+        LongSummaryStatistics stats = WAIT_MILLIS.computeIfAbsent(name, key -> new LongSummaryStatistics());
+        synchronized (stats) {
+            stats.accept(TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        }
+    }
+
+    /**
+     * Sleeper that doubles its sleep on every poll, from the configured initial interval up to the configured cap.
+     * The interval passed in by {@link FluentWait} is ignored.
+     */
+    private static final class BackoffSleeper implements Sleeper {
+
+        private long nextMillis = Math.max(1, ConfigManager.get().waitInitialPollMillis());
+
+        @Override
+        public void sleep(Duration ignored) throws InterruptedException {
+            long millis = nextMillis;
+            nextMillis = Math.min(nextMillis * 2, ConfigManager.get().waitMaxPollMillis());
+            Thread.sleep(millis);
+        }
+    }
+}
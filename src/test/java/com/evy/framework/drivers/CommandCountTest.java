@@ -0,0 +1,67 @@
+package com.evy.framework.drivers;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unit tests for the per-test WebDriver command counts of {@link CommandCount} and their CSV export.
+ */
+public class CommandCountTest {
+
+    @Test
+    public void countsCommandsAndTimeByName() {
+        CommandCount count = new CommandCount();
+        count.record("findElement", TimeUnit.MILLISECONDS.toNanos(2));
+        count.record("findElement", TimeUnit.MILLISECONDS.toNanos(4));
+        count.record("clickElement", TimeUnit.MILLISECONDS.toNanos(10));
+
+        Assert.assertEquals(count.total(), 3);
+        Assert.assertEquals(count.totalMillis(), 16);
+        List<String> visited = new ArrayList<>();
+        count.forEach((command, commands, nanos) -> visited.add(command + "=" + commands + "/" + TimeUnit.NANOSECONDS.toMillis(nanos)));
+        Assert.assertEquals(visited, List.of("clickElement=1/10", "findElement=2/6"));
+    }
+
+    @Test
+    public void addsAnotherCount() {
+        CommandCount first = new CommandCount();
+        first.record("findElement", 100);
+        CommandCount second = new CommandCount();
+        second.record("findElement", 200);
+        second.record("executeScript", 300);
+
+        first.add(second);
+
+        Assert.assertEquals(first.total(), 3);
+        Assert.assertEquals(first.totalNanos(), 600);
+        List<String> visited = new ArrayList<>();
+        first.forEach((command, commands, nanos) -> visited.add(command + "=" + commands));
+        Assert.assertEquals(visited, List.of("executeScript=1", "findElement=2"));
+    }
+
+    @Test
+    public void rendersMostFrequentCommandFirstWithTotal() {
+        CommandCount count = new CommandCount();
+        count.record("clickElement", 1);
+        count.record("findElement", 1);
+        count.record("findElement", 1);
+
+        String[] lines = count.render().split("\\R");
+        Assert.assertTrue(lines[0].startsWith("command"));
+        Assert.assertTrue(lines[1].startsWith("findElement"));
+        Assert.assertTrue(lines[2].startsWith("clickElement"));
+        Assert.assertTrue(lines[3].matches("total\\s+3\\s.*"), lines[3]);
+    }
+
+    @Test
+    public void quotesCsvFieldsThatNeedIt() {
+        Assert.assertEquals(CommandTelemetry.quote("LoginTest.testLogin"), "LoginTest.testLogin");
+        Assert.assertEquals(CommandTelemetry.quote("test(a, b)"), "\"test(a, b)\"");
+        Assert.assertEquals(CommandTelemetry.quote("say \"hi\""), "\"say \"\"hi\"\"\"");
+        Assert.assertEquals(CommandTelemetry.quote("two\nlines"), "\"two\nlines\"");
+    }
+}
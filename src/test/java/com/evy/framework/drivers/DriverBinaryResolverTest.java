@@ -0,0 +1,45 @@
+package com.evy.framework.drivers;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Unit tests for the browser version ordering of {@link DriverBinaryResolver}.
+ */
+public class DriverBinaryResolverTest {
+
+    @Test
+    public void comparesVersionPartsNumerically() {
+        Assert.assertTrue(DriverBinaryResolver.compareVersions("128.0.6613.84", "128.0.6613.9") > 0);
+        Assert.assertTrue(DriverBinaryResolver.compareVersions("99.0.1", "100.0.0") < 0);
+        Assert.assertTrue(DriverBinaryResolver.compareVersions("10", "9") > 0);
+    }
+
+    @Test
+    public void equalVersionsCompareEqual() {
+        Assert.assertEquals(DriverBinaryResolver.compareVersions("120.0.6099.109", "120.0.6099.109"), 0);
+    }
+
+    @Test
+    public void prefixRanksBelowLongerVersion() {
+        Assert.assertTrue(DriverBinaryResolver.compareVersions("120.0", "120.0.1") < 0);
+        Assert.assertTrue(DriverBinaryResolver.compareVersions("120.0.1", "120.0") > 0);
+    }
+
+    @Test
+    public void nonNumericPartsRankBelowNumbers() {
+        Assert.assertTrue(DriverBinaryResolver.compareVersions("unknown", "1") < 0);
+        Assert.assertTrue(DriverBinaryResolver.compareVersions("120.0.beta", "120.0.0") < 0);
+    }
+
+    @Test
+    public void sortsNewestFirstWhenReversed() {
+        List<String> versions = new ArrayList<>(List.of("9.0", "120.0.6099.109", "unknown", "120.0.6099.71", "100"));
+        versions.sort(Comparator.comparing((String version) -> version, DriverBinaryResolver::compareVersions).reversed());
+        Assert.assertEquals(versions, List.of("120.0.6099.109", "120.0.6099.71", "100", "9.0", "unknown"));
+    }
+}
@@ -0,0 +1,76 @@
+package com.evy.framework.utils;
+
+import com.evy.framework.constants.ActionType;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unit tests for the log-linear latency buckets of {@link ActionMetrics}.
+ */
+public class ActionMetricsTest {
+
+    @Test
+    public void smallLatenciesHaveOneBucketPerMicrosecond() {
+        for (long micros = 0; micros < 16; micros++) {
+            Assert.assertEquals(ActionMetrics.bucketIndex(micros), (int) micros);
+            Assert.assertEquals(ActionMetrics.bucketUpperBound((int) micros), micros);
+        }
+    }
+
+    @Test
+    public void negativeLatenciesFallIntoTheFirstBucket() {
+        Assert.assertEquals(ActionMetrics.bucketIndex(-5), 0);
+    }
+
+    @Test
+    public void everyLatencyFallsInsideItsBucket() {
+        for (long micros = 16; micros < TimeUnit.MINUTES.toMicros(10); micros = micros * 17 / 16 + 1) {
+            int index = ActionMetrics.bucketIndex(micros);
+            long lower = ActionMetrics.bucketUpperBound(index - 1) + 1;
+            long upper = ActionMetrics.bucketUpperBound(index);
+            Assert.assertTrue(lower <= micros && micros <= upper, micros + " outside bucket " + index + " [" + lower + ", " + upper + "]");
+            Assert.assertTrue(upper - lower + 1 <= Math.max(1, lower / 16), "bucket " + index + " wider than 1/16 of its values");
+        }
+    }
+
+    @Test
+    public void bucketsFollowLatencyOrder() {
+        int previous = ActionMetrics.bucketIndex(0);
+        for (long micros = 1; micros < 100_000; micros++) {
+            int index = ActionMetrics.bucketIndex(micros);
+            Assert.assertTrue(index == previous || index == previous + 1, "bucket skipped at " + micros);
+            previous = index;
+        }
+    }
+
+    @Test
+    public void exportedPercentilesStayWithinBucketPrecision() throws IOException {
+        for (int millis = 1; millis <= 100; millis++) {
+            ActionMetrics.record(ActionMetricsTest.class, ActionType.CLICK, "percentiles", TimeUnit.MILLISECONDS.toNanos(millis), 1, false);
+        }
+        Path dir = Files.createTempDirectory("action-metrics");
+        ActionMetrics.export(dir);
+
+        String row = Files.readAllLines(dir.resolve("action-metrics.csv"), StandardCharsets.UTF_8).stream()
+                .filter(line -> line.startsWith("ActionMetricsTest,CLICK,percentiles,"))
+                .findFirst()
+                .orElseThrow();
+        String[] fields = row.split(",");
+        Assert.assertEquals(fields[3], "100");
+        assertWithinBucket(Double.parseDouble(fields[9]), 50);
+        assertWithinBucket(Double.parseDouble(fields[10]), 95);
+        assertWithinBucket(Double.parseDouble(fields[11]), 99);
+        Assert.assertEquals(Double.parseDouble(fields[12]), 100.0);
+    }
+
+    private static void assertWithinBucket(double actualMillis, double expectedMillis) {
+        Assert.assertTrue(actualMillis >= expectedMillis && actualMillis <= expectedMillis * 17 / 16,
+                actualMillis + " ms is not within a bucket of " + expectedMillis + " ms");
+    }
+}
@@ -0,0 +1,98 @@
+package com.evy.framework.utils;
+
+import com.evy.framework.config.ConfigManager;
+import com.evy.framework.constants.ActionType;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Unit tests for the retry budget and nesting rules of {@link ActionUtils}.
+ */
+public class ActionUtilsTest {
+
+    /**
+     * Retries every error without waiting, so only the budget limits retries.
+     */
+    private static final RetryPolicy ALWAYS_RETRY = new RetryPolicy() {
+        @Override
+        public int maxAttempts() {
+            return Integer.MAX_VALUE;
+        }
+
+        @Override
+        public boolean isRetryable(Throwable error, int attempt) {
+            return true;
+        }
+
+        @Override
+        public Duration backoff(int attempt) {
+            return Duration.ZERO;
+        }
+    };
+
+    @BeforeMethod
+    public void installPolicy() {
+        ActionUtils.setRetryPolicy(ALWAYS_RETRY);
+        ActionUtils.resetRetryBudget();
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void restorePolicy() {
+        ActionUtils.setRetryPolicy(new TransientErrorRetryPolicy());
+        ActionUtils.resetRetryBudget();
+    }
+
+    @Test
+    public void retriesDrawOnThePerTestBudget() {
+        int budget = ConfigManager.get().retryBudgetPerTest();
+        AtomicInteger calls = new AtomicInteger();
+
+        Assert.assertThrows(RuntimeException.class, () -> failingAction(calls));
+        Assert.assertEquals(calls.get(), budget + 1);
+
+        calls.set(0);
+        Assert.assertThrows(RuntimeException.class, () -> failingAction(calls));
+        Assert.assertEquals(calls.get(), 1, "an exhausted budget must not allow further retries");
+    }
+
+    @Test
+    public void resetRestoresTheBudget() {
+        AtomicInteger calls = new AtomicInteger();
+        Assert.assertThrows(RuntimeException.class, () -> failingAction(calls));
+
+        ActionUtils.resetRetryBudget();
+        calls.set(0);
+        Assert.assertThrows(RuntimeException.class, () -> failingAction(calls));
+        Assert.assertEquals(calls.get(), ConfigManager.get().retryBudgetPerTest() + 1);
+    }
+
+    @Test
+    public void nestedActionsLeaveRetriesToTheOuterAction() {
+        AtomicInteger outer = new AtomicInteger();
+        AtomicInteger inner = new AtomicInteger();
+        ActionUtils.execVoidFunction(ActionUtilsTest.class, ActionType.CLICK, "outer", () -> {
+            outer.incrementAndGet();
+            ActionUtils.execVoidFunction(ActionUtilsTest.class, ActionType.CLICK, "inner", () -> {
+                if (inner.incrementAndGet() < 3) {
+                    throw new StaleElementReferenceException("stale");
+                }
+            }, "inner passed", "inner failed");
+        }, "outer passed", "outer failed");
+
+        Assert.assertEquals(inner.get(), 3);
+        Assert.assertEquals(outer.get(), 3, "each retry of the outer action runs the inner action once");
+    }
+
+    private static void failingAction(AtomicInteger calls) {
+        ActionUtils.execVoidFunction(ActionUtilsTest.class, ActionType.CLICK, "failing", () -> {
+            calls.incrementAndGet();
+            throw new StaleElementReferenceException("stale");
+        }, "passed", "failed");
+    }
+}
@@ -0,0 +1,116 @@
+package com.evy.framework.utils;
+
+import com.evy.framework.config.ConfigManager;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Unit tests for the deduplication, publishing and garbage collection of {@link ArtifactStore}.
+ * <p>
+ * The store is pointed at a temporary root with an expired run already laid out, so its first use there
+ * collects that run's garbage.
+ * </p>
+ */
+public class ArtifactStoreTest {
+
+    private Path root;
+    private Path oldRun;
+    private Path oldBlob;
+    private Path orphanBlob;
+
+    @BeforeClass
+    public void layOutOldRun() throws IOException {
+        root = Files.createTempDirectory("artifact-store");
+
+        oldBlob = root.resolve("blobs/aa/aa-old.gz");
+        orphanBlob = root.resolve("blobs/bb/bb-orphan.gz");
+        Files.createDirectories(oldBlob.getParent());
+        Files.createDirectories(orphanBlob.getParent());
+        Files.write(oldBlob, new byte[]{1});
+        Files.write(orphanBlob, new byte[]{2});
+        oldRun = root.resolve("runs/old-run");
+        Files.createDirectories(oldRun);
+        Files.writeString(oldRun.resolve("manifest.tsv"), "aa-old\t1\ttext/plain\t" + root.relativize(oldBlob) + "\told log\n");
+        FileTime longAgo = FileTime.from(Instant.now().minus(ConfigManager.get().artifactMaxAgeDays() + 1L, ChronoUnit.DAYS));
+        Files.setLastModifiedTime(oldRun, longAgo);
+
+        ArtifactStore.useRoot(root);
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void restoreRoot() {
+        ArtifactStore.useRoot(null);
+    }
+
+    @Test
+    public void firstUseDeletesExpiredRunsAndUnreferencedBlobs() throws IOException {
+        ArtifactStore.put("trigger".getBytes(StandardCharsets.UTF_8), "trigger", "text/plain");
+
+        Assert.assertFalse(Files.exists(oldRun));
+        Assert.assertFalse(Files.exists(oldBlob));
+        Assert.assertFalse(Files.exists(orphanBlob));
+    }
+
+    @Test(dependsOnMethods = "firstUseDeletesExpiredRunsAndUnreferencedBlobs")
+    public void storesIdenticalContentOnce() throws IOException {
+        byte[] content = "same failure page".getBytes(StandardCharsets.UTF_8);
+        Path first = ArtifactStore.put(content, "first", "text/html");
+        Path second = ArtifactStore.put(content, "second", "text/html");
+
+        Assert.assertEquals(second, first);
+        Assert.assertTrue(first.getFileName().toString().startsWith(ArtifactStore.sha256(content)));
+        Assert.assertEquals(gunzip(first), content);
+        try (Stream<String> lines = Files.lines(manifest())) {
+            Assert.assertEquals(lines.filter(line -> line.startsWith(ArtifactStore.sha256(content))).count(), 2);
+        }
+    }
+
+    @Test(dependsOnMethods = "firstUseDeletesExpiredRunsAndUnreferencedBlobs")
+    public void publishesTextUncompressedAndImagesAsTheirBlob() throws IOException {
+        Path dir = Files.createTempDirectory("published");
+        byte[] text = "log line".getBytes(StandardCharsets.UTF_8);
+        byte[] image = {(byte) 0xFF, (byte) 0xD8, 1, 2, 3};
+
+        ArtifactStore.save(text, "log", "text/plain", dir.resolve("test.log"));
+        ArtifactStore.save(image, "screenshot", "image/jpeg", dir.resolve("screenshot.jpg"));
+
+        Assert.assertEquals(Files.readAllBytes(dir.resolve("test.log")), text);
+        Assert.assertEquals(Files.readAllBytes(dir.resolve("screenshot.jpg")), image);
+        Assert.assertEquals(Files.readAllBytes(ArtifactStore.put(image, "screenshot", "image/jpeg")), image);
+    }
+
+    @Test(dependsOnMethods = "firstUseDeletesExpiredRunsAndUnreferencedBlobs")
+    public void publishesCompressedCopyOfText() throws IOException {
+        Path copy = Files.createTempDirectory("compressed").resolve("page.dom.html.gz");
+        byte[] html = "<html></html>".getBytes(StandardCharsets.UTF_8);
+
+        ArtifactStore.saveCompressed(html, "DOM snapshot", "text/html", copy);
+
+        Assert.assertEquals(gunzip(copy), html);
+    }
+
+    private Path manifest() throws IOException {
+        try (Stream<Path> runs = Files.list(root.resolve("runs"))) {
+            return runs.findFirst().orElseThrow().resolve("manifest.tsv");
+        }
+    }
+
+    private static byte[] gunzip(Path file) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(Files.readAllBytes(file)))) {
+            return in.readAllBytes();
+        }
+    }
+}
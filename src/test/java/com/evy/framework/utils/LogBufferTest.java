@@ -0,0 +1,35 @@
+package com.evy.framework.utils;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Unit tests for the bounded per-test log of {@link LogBuffer}.
+ */
+public class LogBufferTest {
+
+    @Test
+    public void keepsTheMostRecentMessagesAndCountsDroppedOnes() {
+        LogBuffer buffer = new LogBuffer(2);
+        buffer.append("INFO", LogBufferTest.class, "first", null);
+        buffer.append("INFO", LogBufferTest.class, "second", null);
+        buffer.append("ERROR", LogBufferTest.class, "third", null);
+
+        String log = buffer.render();
+        Assert.assertTrue(log.startsWith("... 1 earlier messages dropped"), log);
+        Assert.assertFalse(log.contains("first"), log);
+        Assert.assertTrue(log.indexOf("second") < log.indexOf("third"), log);
+        Assert.assertTrue(log.contains("ERROR " + LogBufferTest.class.getName() + " - third"), log);
+    }
+
+    @Test
+    public void rendersTheCauseChain() {
+        LogBuffer buffer = new LogBuffer(10);
+        buffer.append("ERROR", LogBufferTest.class, "failed", new RuntimeException("outer", new IllegalStateException("inner")));
+
+        String log = buffer.render();
+        Assert.assertTrue(log.contains("java.lang.RuntimeException: outer"), log);
+        Assert.assertTrue(log.contains("Caused by: java.lang.IllegalStateException: inner"), log);
+        Assert.assertTrue(log.contains("\tat "), log);
+    }
+}
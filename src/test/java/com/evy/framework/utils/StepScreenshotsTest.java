@@ -0,0 +1,42 @@
+package com.evy.framework.utils;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+
+/**
+ * Unit tests for the fixed-size frame ring of {@link StepScreenshots}.
+ */
+public class StepScreenshotsTest {
+
+    @Test
+    public void drainsTheMostRecentFramesOldestFirst() {
+        StepScreenshots.Ring ring = new StepScreenshots.Ring(3, 1);
+        for (int i = 1; i <= 5; i++) {
+            ring.add("step " + i, new byte[]{(byte) i});
+        }
+
+        String[] labels = Arrays.stream(ring.drain()).map(StepScreenshots.Frame::label).toArray(String[]::new);
+        Assert.assertEquals(labels, new String[]{"step 3", "step 4", "step 5"});
+    }
+
+    @Test
+    public void drainsOnlyTheFramesAdded() {
+        StepScreenshots.Ring ring = new StepScreenshots.Ring(3, 1);
+        ring.add("only", new byte[0]);
+
+        Assert.assertEquals(ring.drain().length, 1);
+        Assert.assertEquals(ring.drain()[0].label(), "only");
+    }
+
+    @Test
+    public void capturesEveryNthAction() {
+        StepScreenshots.Ring ring = new StepScreenshots.Ring(3, 2);
+        boolean[] due = new boolean[5];
+        for (int i = 0; i < due.length; i++) {
+            due[i] = ring.isDue();
+        }
+        Assert.assertEquals(due, new boolean[]{true, false, true, false, true});
+    }
+}
@@ -0,0 +1,70 @@
+package com.evy.framework.utils;
+
+import com.evy.framework.config.ConfigManager;
+import org.openqa.selenium.ElementClickInterceptedException;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+
+/**
+ * Unit tests for the error classification and backoff of {@link TransientErrorRetryPolicy}.
+ */
+public class TransientErrorRetryPolicyTest {
+
+    private final TransientErrorRetryPolicy policy = new TransientErrorRetryPolicy();
+
+    @Test
+    public void retriesTransientErrors() {
+        Assert.assertTrue(policy.isRetryable(new StaleElementReferenceException("stale"), 1));
+        Assert.assertTrue(policy.isRetryable(new ElementClickInterceptedException("intercepted"), 1));
+    }
+
+    @Test
+    public void retriesTransientErrorsWrappedByPageObjects() {
+        Assert.assertTrue(policy.isRetryable(new RuntimeException("Failed to click", new StaleElementReferenceException("stale")), 1));
+    }
+
+    @Test
+    public void doesNotRetryTerminalErrors() {
+        Assert.assertFalse(policy.isRetryable(new TimeoutException("timed out"), 1));
+        Assert.assertFalse(policy.isRetryable(new NoSuchElementException("missing"), 1));
+        Assert.assertFalse(policy.isRetryable(new JavascriptException("broken script"), 1));
+        Assert.assertFalse(policy.isRetryable(new RuntimeException("Failed to wait", new TimeoutException("timed out")), 1));
+    }
+
+    @Test
+    public void terminalCauseWinsOverTransientError() {
+        Assert.assertFalse(policy.isRetryable(new StaleElementReferenceException("stale", new TimeoutException("timed out")), 1));
+    }
+
+    @Test
+    public void doesNotRetryUnknownErrors() {
+        Assert.assertFalse(policy.isRetryable(new RuntimeException("unknown"), 1));
+    }
+
+    @Test
+    public void stopsAtMaxAttempts() {
+        int maxAttempts = policy.maxAttempts();
+        Assert.assertTrue(maxAttempts >= 1);
+        Assert.assertFalse(policy.isRetryable(new StaleElementReferenceException("stale"), maxAttempts));
+    }
+
+    @Test
+    public void backoffGrowsExponentiallyWithJitterUpToTheCap() {
+        long base = ConfigManager.get().retryBaseDelayMillis();
+        long cap = ConfigManager.get().retryMaxDelayMillis();
+        for (int attempt = 1; attempt <= 30; attempt++) {
+            long delay = Math.min(cap, base << Math.min(attempt - 1, 20));
+            for (int sample = 0; sample < 50; sample++) {
+                Duration backoff = policy.backoff(attempt);
+                Assert.assertTrue(backoff.toMillis() >= delay / 2 && backoff.toMillis() <= delay,
+                        "attempt " + attempt + " backed off " + backoff.toMillis() + " ms, expected " + delay / 2 + " to " + delay + " ms");
+            }
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.evy.tests;
 
+import com.evy.framework.config.ConfigManager;
 import com.evy.framework.pages.HomePage;
+import com.evy.framework.pages.authentication.AuthSessionCache;
 import com.evy.framework.utils.AssertionUtils;
 import com.github.javafaker.Faker;
 import io.qameta.allure.Description;
@@ -13,7 +15,7 @@ import org.testng.annotations.Test;
  * Test class for end-to-end user scenarios.
  * <p>
  * This class contains a test method for verifying the complete end-to-end process for a user.
- * It includes steps for user registration, product selection, and checkout.
+ * It includes steps for user registration or signing in the test account, product selection, and checkout.
  * </p>
  */
 @Feature("End-to-End User Journey")
@@ -24,16 +26,19 @@ public class EndToEndTest extends BaseTest {
      * Data provider for end-to-end tests.
      * <p>
      * This method supplies different sets of data for testing the end-to-end user journey.
+     * It uses the test account configured for the environment, or a fresh account when none is configured.
      * </p>
      *
      * @return 2D array of test data
      */
     @DataProvider(name = "endToEndData")
     public Object[][] provideEndToEndData() {
-        Faker faker = new Faker();
+        boolean accountConfigured = isTestAccountConfigured();
+        String email = accountConfigured ? ConfigManager.get().testAccountEmail() : new Faker().internet().emailAddress();
+        String password = accountConfigured ? ConfigManager.get().testAccountPassword() : "Password123";
         return new Object[][] {
                 // {firstName, lastName, email, password, confirmPassword, mainCategory, subCategory, subSubCategory, productName, productSize, productColor, productQuantity, address, city, postcode, country, phone, expectedMessage}
-                {"Evy", "User", faker.internet().emailAddress(), "Password123", "Password123", "Men", "Tops", "Jackets", "Montana Wind Jacket", "M", "Black", "1",
+                {"Evy", "User", email, password, password, "Men", "Tops", "Jackets", "Montana Wind Jacket", "M", "Black", "1",
                         "1234 Elm Street", "tel-aviv", "12345", "Israel", "555-1234", "Thank you for your purchase!"},
 
                 // Add more data sets as needed
@@ -46,12 +51,11 @@ public class EndToEndTest extends BaseTest {
      * This method executes the complete user journey from registration to placing an order.
      * <p>
      * Test Steps:
-     *  1. Navigate to the Authentication section.
-     *  2. Register a new user.
-     *  3. Select product categories and attributes.
-     *  4. Add the product to the cart.
-     *  5. Navigate to checkout and place the order.
-     *  6. Verify the success message of the order placement.
+     *  1. Register a fresh user, or sign in the configured test account, registering it on the first run against the storefront (cached session afterwards).
+     *  2. Open the product page directly and select the product attributes.
+     *  3. Add the product to the cart.
+     *  4. Navigate to checkout and place the order.
+     *  5. Verify the success message of the order placement.
      * </p>
      *
      * @param firstName         the first name of the user
@@ -93,7 +97,8 @@ public class EndToEndTest extends BaseTest {
     /**
      * Executes the end-to-end process and retrieves the success order message.
      * <p>
-     * This method performs the steps of user registration, product selection, adding to cart, and placing an order.
+     * This method performs the steps of registration or signing in through the {@link AuthSessionCache}, product selection,
+     * adding to cart, and placing an order.
      * </p>
      *
      * @return the success message after placing the order
@@ -102,18 +107,33 @@ public class EndToEndTest extends BaseTest {
                                    String mainCategory, String subCategory, String subSubCategory, String productName,
                                    String productSize, String productColor, String productQuantity,
                                    String address, String city, String postcode, String country, String phone) {
-        return HomePage.getInstance()
-                .navigateToAuthentication()
-                .navigateToRegisterPage()
-                .register(firstName, lastName, email, password, confirmPassword, true, HomePage.class)
+        return signIn(firstName, lastName, email, password, confirmPassword)
                 .navigateToProductDropdown()
-                .selectCategories(mainCategory, subCategory, subSubCategory)
-                .selectProductByName(productName)
+                .openProduct(mainCategory, subCategory, subSubCategory, productName)
                 .setProductSize(productSize).setProductColor(productColor).setProductQuantity(productQuantity).clickProductAddToCartBtn()
                 .navigateToCheckout()
-                .setFirstName(firstName).setLastName(lastName).setAddress(address).setCity(city).setPostcode(postcode).setCountry(country)
-                .setPhone(phone).clickFlatRateShipmentMethod().clickNextPageBtn()
+                .fillShippingAddress(firstName, lastName, address, city, postcode, country, phone)
+                .clickFlatRateShipmentMethod().clickNextPageBtn()
                 .clickPlaceOrder()
                 .getSuccessOrderMsg();
     }
+
+    /**
+     * Signs in the configured test account, registering it if the storefront does not know it yet,
+     * or registers a fresh account when no test account is configured.
+     *
+     * @return the {@link HomePage} with the user signed in
+     */
+    private HomePage signIn(String firstName, String lastName, String email, String password, String confirmPassword) {
+        AuthSessionCache sessions = AuthSessionCache.getInstance();
+        if (!isTestAccountConfigured()) {
+            return sessions.signUp(firstName, lastName, email, password, confirmPassword);
+        }
+        return sessions.trySignIn(email, password)
+                .orElseGet(() -> sessions.signUp(firstName, lastName, email, password, confirmPassword));
+    }
+
+    private static boolean isTestAccountConfigured() {
+        return !ConfigManager.get().testAccountEmail().isBlank();
+    }
 }
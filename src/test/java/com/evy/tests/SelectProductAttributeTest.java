@@ -1,7 +1,8 @@
 package com.evy.tests;
 
 import com.evy.framework.data.ProductAttributeData;
-import com.evy.framework.pages.HomePage;
+import com.evy.framework.pages.product.ProductPage;
+import com.evy.framework.scenario.Scenario;
 import com.evy.framework.utils.AssertionUtils;
 import io.qameta.allure.Description;
 import io.qameta.allure.Feature;
@@ -28,11 +29,10 @@ public class SelectProductAttributeTest extends BaseTest {
      * <p>
      * Test Steps:
      *  1. Navigate to the Product Dropdown.
-     *  2. Select the categories.
-     *  3. Select the product by name.
-     *  4. Set the product attributes (size, color, quantity).
-     *  5. Add the product to the cart.
-     *  6. Verify the response message.
+     *  2. Open the product page directly by category and product name.
+     *  3. Set the product attributes (size, color, quantity).
+     *  4. Add the product to the cart.
+     *  5. Verify the response message.
      * </p>
      */
     @Test(dataProviderClass = ProductAttributeData.class, dataProvider = "productQuantityData")
@@ -52,6 +52,7 @@ public class SelectProductAttributeTest extends BaseTest {
      * Selects product attributes and retrieves the response message.
      * <p>
      * This method navigates through the product selection process, sets the attributes, and returns the response message.
+     * The product page is reached once per run and restored from a {@link Scenario} snapshot, with a fresh cart, for the other rows.
      * </p>
      *
      * @param mainCategory    the main category of the product
@@ -66,10 +67,11 @@ public class SelectProductAttributeTest extends BaseTest {
      */
     private String selectProductAttributeAndGetResponseMsg(String mainCategory, String subCategory, String subSubCategory, String productName,
                                                            String productSize, String productColor, String productQuantity, String operation) {
-        return HomePage.getInstance()
-                .navigateToProductDropdown()
-                .selectCategories(mainCategory, subCategory, subSubCategory)
-                .selectProductByName(productName)
+        return Scenario.fromHome()
+                .then("product " + mainCategory + "/" + subCategory + "/" + subSubCategory + "/" + productName,
+                        ProductPage.pageHeaderOf(productName), ProductPage::new,
+                        home -> home.navigateToProductDropdown().openProduct(mainCategory, subCategory, subSubCategory, productName))
+                .run()
                 .setProductSize(productSize)
                 .setProductColor(productColor)
                 .setProductQuantity(productQuantity)
@@ -1,7 +1,8 @@
 package com.evy.tests;
 
 import com.evy.framework.data.ProductNamesData;
-import com.evy.framework.pages.HomePage;
+import com.evy.framework.pages.product.ProductListingPage;
+import com.evy.framework.scenario.Scenario;
 import com.evy.framework.utils.AssertionUtils;
 import io.qameta.allure.Description;
 import io.qameta.allure.Feature;
@@ -49,6 +50,7 @@ public class SelectProductByNameTest extends BaseTest {
      * Selects a product by name after navigating through categories and retrieves the product page header text.
      * <p>
      * This method navigates through the categories, selects the specified product by its name, and returns the product page header text.
+     * The category listing is reached once per run and restored from a {@link Scenario} snapshot for the other rows.
      * </p>
      *
      * @param mainCategory         the main category to select
@@ -58,9 +60,11 @@ public class SelectProductByNameTest extends BaseTest {
      * @return the header text of the product page after selection
      */
     private String selectProductByNameAndGetProductPageHeader(String mainCategory, String subCategory, String subSubCategory, String productName) {
-        return HomePage.getInstance()
-                .navigateToProductDropdown()
-                .selectCategories(mainCategory, subCategory, subSubCategory)
+        return Scenario.fromHome()
+                .then("categories " + mainCategory + "/" + subCategory + "/" + subSubCategory,
+                        ProductListingPage.productLinks(), ProductListingPage::new,
+                        home -> home.navigateToProductDropdown().selectCategories(mainCategory, subCategory, subSubCategory))
+                .run()
                 .selectProductByName(productName)
                 .getPageHeader();
     }
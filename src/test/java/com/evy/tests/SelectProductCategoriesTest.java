@@ -47,7 +47,7 @@ public class SelectProductCategoriesTest extends BaseTest {
     /**
      * Selects categories from the product dropdown and retrieves the resulting URL.
      * <p>
-     * This method navigates to the dropdown menu, selects the specified categories, and returns the current URL.
+     * This method navigates to the dropdown menu, selects the specified categories through the real menu, and returns the current URL.
      * </p>
      *
      * @param mainCategory  the main category to select
@@ -58,7 +58,7 @@ public class SelectProductCategoriesTest extends BaseTest {
     private String selectCategoriesFromDropdownAndGetUrl(String mainCategory, String subCategory, String subSubCategory) {
         return HomePage.getInstance()
                 .navigateToProductDropdown()
-                .selectCategories(mainCategory, subCategory, subSubCategory)
+                .selectCategoriesFromMenu(mainCategory, subCategory, subSubCategory)
                 .getCurrentUrl();
     }
 }